@@ -0,0 +1,39 @@
+package poker;
+
+// Example hands shared by the benchmarks
+final class BenchmarkHands {
+    private BenchmarkHands() {}
+
+    // Returns an unranked example hand of the specified rank, cards in dealt (unsorted) order
+    static Hand Example(HandRank rank) {
+        switch (rank) {
+            case Nothing:       return Build(rank, "King Heart", "Two Club", "Nine Spade", "Five Diamond", "Jack Club");
+            case Pair:          return Build(rank, "Seven Heart", "Two Club", "Nine Spade", "Seven Diamond", "Jack Club");
+            case TwoPair:       return Build(rank, "Seven Heart", "Jack Spade", "Nine Spade", "Seven Diamond", "Jack Club");
+            case ThreeOfAKind:  return Build(rank, "Seven Heart", "Seven Club", "Nine Spade", "Seven Diamond", "Jack Club");
+            case Straight:      return Build(rank, "Seven Heart", "Eight Club", "Five Spade", "Six Diamond", "Four Club");
+            case Flush:         return Build(rank, "King Heart", "Two Heart", "Nine Heart", "Five Heart", "Jack Heart");
+            case FullHouse:     return Build(rank, "Seven Heart", "Seven Club", "Jack Spade", "Seven Diamond", "Jack Club");
+            case FourOfAKind:   return Build(rank, "Seven Heart", "Seven Club", "Jack Spade", "Seven Diamond", "Seven Spade");
+            case StraightFlush: return Build(rank, "Seven Club", "Eight Club", "Five Club", "Six Club", "Four Club");
+            case RoyalFlush:    return Build(rank, "King Spade", "Ace Spade", "Ten Spade", "Queen Spade", "Jack Spade");
+            default:            throw new IllegalArgumentException("No example hand for " + rank);
+        }
+    }
+
+    // Builds a hand from "Face Suit" names and checks it really has the expected rank
+    private static Hand Build(HandRank rank, String... cardNames) {
+        Hand hand = new Hand();
+        for (String cardName : cardNames) {
+            String[] parts = cardName.split(" ");
+            hand.cards.add(Card.Of(CardFace.valueOf(parts[0]), CardSuit.valueOf(parts[1])));
+        }
+        Hand check = new Hand();
+        check.cards.addAll(hand.cards);
+        check.GetRank();
+        if (check.rank != rank) {
+            throw new IllegalStateException("Example hand for " + rank + " ranks as " + check.rank);
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,111 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Benchmarks CardDeck shuffling, dealing and drawing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDeckBenchmark {
+    // Deck for the shuffle benchmark
+    @State(Scope.Thread)
+    public static class ShuffleState {
+        // Number of shuffles per call to Shuffle(int)
+        @Param({ "1", "3" })
+        public int numTimes;
+
+        CardDeck deck;
+
+        @Setup
+        public void Setup() {
+            deck = new CardDeck(42);
+        }
+    }
+
+    // Deck and a dealt hand for the draw benchmark
+    @State(Scope.Thread)
+    public static class DrawState {
+        CardDeck deck;
+        Hand hand;
+
+        @Setup
+        public void Setup() {
+            deck = new CardDeck(42);
+            hand = new Hand();
+            for (int numCard = 0; numCard < 5; numCard++) {
+                deck.DealCard(hand);
+            }
+        }
+    }
+
+    // Deck and empty hands for a full deal
+    @State(Scope.Thread)
+    public static class DealState {
+        // Number of players dealt in
+        @Param({ "2", "3", "4", "5", "6", "7" })
+        public int numPlayers;
+
+        CardDeck deck;
+        List<Hand> hands;
+
+        @Setup
+        public void Setup() {
+            deck = new CardDeck(42);
+            hands = new ArrayList<Hand>();
+            for (int playerHands = 1; playerHands <= numPlayers; playerHands++) {
+                Hand newHand = new Hand();
+                newHand.playerNumber = playerHands;
+                hands.add(newHand);
+            }
+        }
+    }
+
+    @Benchmark
+    public int Shuffle(ShuffleState state) {
+        state.deck.Reset();
+        state.deck.Shuffle(state.numTimes);
+        return state.deck.CardAt(0);
+    }
+
+    // Deals 5 cards to every player, same loop order as the Deal stage
+    @Benchmark
+    public List<Hand> DealCard(DealState state) {
+        state.deck.Reset();
+        for (int numPlayer = 0; numPlayer < state.numPlayers; numPlayer++) {
+            state.hands.get(numPlayer).cards.clear();
+        }
+        for (int numCards = 1; numCards <= 5; numCards++) {
+            for (int numPlayer = 1; numPlayer <= state.numPlayers; numPlayer++) {
+                state.hands.set(numPlayer - 1, state.deck.DealCard(state.hands.get(numPlayer - 1)));
+            }
+        }
+        return state.hands;
+    }
+
+    // Draws 3 replacement cards into a dealt hand
+    @Benchmark
+    public Hand DrawCard(DrawState state) {
+        state.deck.Reset();
+        Hand hand = state.hand;
+        for (int drawCard = 1; drawCard <= 3; drawCard++) {
+            hand = state.deck.DrawCard(hand, drawCard);
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,59 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Benchmarks Main.OrderHands on ranked hands dealt from a seeded deck
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderHandsBenchmark {
+    // Number of hands ordered
+    @Param({ "2", "3", "4", "5", "6", "7" })
+    public int numPlayers;
+
+    // Holds the hands in dealt order and the list that gets sorted
+    private Hand[] dealtHands;
+    private List<Hand> hands;
+
+    @Setup
+    public void Setup() {
+        CardDeck deck = new CardDeck(42);
+        deck.Shuffle();
+        dealtHands = new Hand[numPlayers];
+        for (int numPlayer = 0; numPlayer < numPlayers; numPlayer++) {
+            dealtHands[numPlayer] = new Hand();
+            dealtHands[numPlayer].playerNumber = numPlayer + 1;
+            for (int numCard = 0; numCard < 5; numCard++) {
+                deck.DealCard(dealtHands[numPlayer]);
+            }
+            dealtHands[numPlayer].GetRank();
+        }
+        hands = new ArrayList<Hand>(numPlayers);
+    }
+
+    @Benchmark
+    public List<Hand> OrderHands() {
+        // OrderHands sorts in place - start from dealt order every time
+        hands.clear();
+        Collections.addAll(hands, dealtHands);
+        return Main.OrderHands(hands);
+    }
+}
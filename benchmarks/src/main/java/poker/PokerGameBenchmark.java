@@ -0,0 +1,41 @@
+package poker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Benchmarks a full headless bot-vs-bot game (Deal, Draw, Score) through PokerGame
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PokerGameBenchmark {
+    // Number of players at the table
+    @Param({ "2", "4", "7" })
+    public int numPlayers;
+
+    // Holds the game - reused for every game played
+    private PokerGame game;
+
+    @Setup
+    public void Setup() {
+        game = new PokerGame(new CardDeck(42), numPlayers, BotStrategy.INSTANCE);
+    }
+
+    @Benchmark
+    public int Play() {
+        return game.Play();
+    }
+}
@@ -0,0 +1,111 @@
+package poker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Benchmarks best five of seven evaluation - BestHandEvaluator against trying all 21 five card subsets,
+// both with HandEvaluator directly and through Hand.GetRank
+// Each invocation ranks the same batch of seeded random seven card hands, so the score is per hand
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SevenCardBenchmark {
+    // Number of hands ranked per invocation
+    private static final int NUM_HANDS = 1024;
+
+    // Holds the seven card hands as CardSet masks and as card indices
+    private final long[] handMasks = new long[NUM_HANDS];
+    private final int[][] handCards = new int[NUM_HANDS][7];
+
+    // Holds the hand ranked by GetRank
+    private final Hand hand = new Hand();
+
+    @Setup
+    public void Setup() {
+        CardDeck deck = new CardDeck(42);
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            deck.Reset();
+            for (int numCard = 0; numCard < 7; numCard++) {
+                handCards[numHand][numCard] = deck.NextRandomCard();
+                handMasks[numHand] |= CardSet.Bit(handCards[numHand][numCard]);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int BestHandEvaluator() {
+        int sum = 0;
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            sum += BestHandEvaluator.Evaluate(handMasks[numHand]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int NaiveSubsetsEvaluator() {
+        int sum = 0;
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            int[] cards = handCards[numHand];
+            int best = 0;
+            // Leave out every pair of cards in turn
+            for (int skip1 = 0; skip1 < 7; skip1++) {
+                for (int skip2 = skip1 + 1; skip2 < 7; skip2++) {
+                    int c0 = -1, c1 = -1, c2 = -1, c3 = -1, c4 = -1;
+                    for (int numCard = 0; numCard < 7; numCard++) {
+                        if (numCard == skip1 || numCard == skip2) {
+                            continue;
+                        }
+                        if (c0 < 0) c0 = cards[numCard];
+                        else if (c1 < 0) c1 = cards[numCard];
+                        else if (c2 < 0) c2 = cards[numCard];
+                        else if (c3 < 0) c3 = cards[numCard];
+                        else c4 = cards[numCard];
+                    }
+                    best = Math.max(best, HandEvaluator.Evaluate(c0, c1, c2, c3, c4));
+                }
+            }
+            sum += best;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int NaiveSubsetsGetRank() {
+        int sum = 0;
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            int[] cards = handCards[numHand];
+            int best = 0;
+            for (int skip1 = 0; skip1 < 7; skip1++) {
+                for (int skip2 = skip1 + 1; skip2 < 7; skip2++) {
+                    hand.Clear();
+                    for (int numCard = 0; numCard < 7; numCard++) {
+                        if (numCard != skip1 && numCard != skip2) {
+                            hand.Add(cards[numCard]);
+                        }
+                    }
+                    hand.GetRank();
+                    best = Math.max(best, hand.strength);
+                }
+            }
+            sum += best;
+        }
+        return sum;
+    }
+}
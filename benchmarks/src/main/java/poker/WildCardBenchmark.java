@@ -0,0 +1,108 @@
+package poker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Benchmarks ranking hands with wild cards - WildCards.Evaluate against trying every substitution of the
+// wild cards, with standard hands ranked by HandEvaluator as the baseline
+// Each invocation ranks the same batch of seeded random hands, so the score is per hand
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WildCardBenchmark {
+    // Number of hands ranked per invocation
+    private static final int NUM_HANDS = 1024;
+
+    // Wild cards of the wild hands - two jokers and Twos wild, so most hands hold a wild card
+    private static final WildCards WILD_CARDS = WildCards.Of(2, CardFace.Two);
+
+    // Holds hands from a standard deck and from the wild deck as CardSet masks
+    private final long[] standardMasks = new long[NUM_HANDS];
+    private final long[] wildMasks = new long[NUM_HANDS];
+
+    // Holds the cards of a substitution tried by NaiveSubstitution
+    private final int[] substitution = new int[5];
+
+    @Setup
+    public void Setup() {
+        CardDeck standardDeck = new CardDeck(42);
+        CardDeck wildDeck = new CardDeck(42, WILD_CARDS);
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            standardDeck.Reset();
+            wildDeck.Reset();
+            for (int numCard = 0; numCard < 5; numCard++) {
+                standardMasks[numHand] |= CardSet.Bit(standardDeck.NextRandomCard());
+                wildMasks[numHand] |= CardSet.Bit(wildDeck.NextRandomCard());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int StandardEvaluator() {
+        int sum = 0;
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            sum += HandEvaluator.Evaluate(standardMasks[numHand]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int WildEvaluator() {
+        int sum = 0;
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            sum += WILD_CARDS.Evaluate(wildMasks[numHand]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_HANDS)
+    public int NaiveSubstitution() {
+        int sum = 0;
+        for (int numHand = 0; numHand < NUM_HANDS; numHand++) {
+            long mask = wildMasks[numHand];
+            long natural = mask & ~WILD_CARDS.Mask();
+            int numNatural = 0;
+            for (long cards = natural; cards != 0; cards &= cards - 1) {
+                substitution[numNatural++] = Long.numberOfTrailingZeros(cards);
+            }
+            sum += BestSubstitution(numNatural);
+        }
+        return sum;
+    }
+
+    // Returns the best strength over every card the wild cards from a position on can stand for
+    private int BestSubstitution(int position) {
+        if (position == 5) {
+            int face = HandEvaluator.Face(substitution[0]);
+            boolean fiveOfAKind = true;
+            for (int numCard = 1; numCard < 5; numCard++) {
+                fiveOfAKind &= HandEvaluator.Face(substitution[numCard]) == face;
+            }
+            return fiveOfAKind ? HandEvaluator.Pack(HandRank.FiveOfAKind, face, 1)
+                    : HandEvaluator.Evaluate(substitution[0], substitution[1], substitution[2], substitution[3], substitution[4]);
+        }
+        int best = 0;
+        for (int card = 0; card < CardDeck.NUM_CARDS; card++) {
+            substitution[position] = card;
+            best = Math.max(best, BestSubstitution(position + 1));
+        }
+        return best;
+    }
+}
@@ -0,0 +1,65 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+// Checks of the best five of seven evaluator against ranking every five card subset
+class BestHandEvaluatorTest {
+    // Returns the CardSet mask of card codes separated by spaces, for example "AS KD 7H 7C 2D"
+    static long Mask(String codes) {
+        long mask = 0;
+        for (int offset = 0; offset < codes.length(); offset += 3) {
+            mask |= CardSet.Bit(CardCodes.Parse(codes, offset));
+        }
+        return mask;
+    }
+
+    // Returns the strength of the best five cards in a mask by trying every five card subset
+    static int BestOfSubsets(long cardMask) {
+        int[] cards = new int[Long.bitCount(cardMask)];
+        for (int numCard = 0; numCard < cards.length; numCard++, cardMask &= cardMask - 1) {
+            cards[numCard] = Long.numberOfTrailingZeros(cardMask);
+        }
+        int best = -1;
+        for (int skip = 0; skip < 1 << cards.length; skip++) {
+            if (Integer.bitCount(skip) == cards.length - 5) {
+                long hand = 0;
+                for (int numCard = 0; numCard < cards.length; numCard++) {
+                    if ((skip & (1 << numCard)) == 0) {
+                        hand |= CardSet.Bit(cards[numCard]);
+                    }
+                }
+                best = Math.max(best, HandEvaluator.Evaluate(hand));
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void MatchesEverySubsetOfRandomHands() {
+        SplittableRandom random = new SplittableRandom(15);
+        for (int sample = 0; sample < 200000; sample++) {
+            int numCards = 5 + sample % 3;
+            long cardMask = 0;
+            while (Long.bitCount(cardMask) < numCards) {
+                cardMask |= CardSet.Bit(random.nextInt(HandEvaluator.NUM_CARDS));
+            }
+            int strength = BestHandEvaluator.Evaluate(cardMask);
+            assertEquals(BestOfSubsets(cardMask), strength);
+            long bestFive = BestHandEvaluator.BestFive(cardMask, strength);
+            assertEquals(5, Long.bitCount(bestFive));
+            assertEquals(0, bestFive & ~cardMask);
+            assertEquals(strength, HandEvaluator.Evaluate(bestFive));
+        }
+    }
+
+    @Test
+    void FindsStraightFlushAmongSevenCards() {
+        long cardMask = Mask("9H 8H 7H 6H 5H 9S 9D");
+        int strength = BestHandEvaluator.Evaluate(cardMask);
+        assertEquals(HandRank.StraightFlush, HandEvaluator.Rank(strength));
+        assertEquals(Mask("9H 8H 7H 6H 5H"), BestHandEvaluator.BestFive(cardMask, strength));
+    }
+}
@@ -0,0 +1,30 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// Checks of dealing from a CardDeck
+class CardDeckTest {
+    @Test
+    void RewindReturnsCardsTakenSinceAPosition() {
+        CardDeck deck = new CardDeck(7);
+        deck.RemoveCard(HandEvaluator.CardIndex(CardFace.Ace, CardSuit.Spade));
+        int base = deck.Top();
+        CardSet baseCards = deck.RemainingCards();
+        int[] taken = new int[10];
+        for (int numCard = 0; numCard < taken.length; numCard++) {
+            taken[numCard] = deck.NextRandomCard();
+        }
+        deck.Rewind(base);
+        assertEquals(base, deck.Top());
+        assertEquals(baseCards.Mask(), deck.RemainingCards().Mask());
+        for (int card : taken) {
+            assertTrue(deck.Contains(card));
+        }
+        assertEquals(CardDeck.NUM_CARDS - 1, deck.Remaining());
+        assertThrows(IllegalArgumentException.class, () -> deck.Rewind(base + 1));
+    }
+}
@@ -0,0 +1,30 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+// Checks of the Monte Carlo equity simulator's edge cases
+class EquitySimulatorTest {
+    private static final int[][] HEADS_UP = { {}, {} };
+
+    @Test
+    void NoTrialsGiveZeroes() {
+        EquitySimulator.Result result = EquitySimulator.Simulate(HEADS_UP, null, 1000, Duration.ZERO, 1);
+        assertEquals(0, result.trials);
+        assertEquals(0, result.WinProbability(0));
+        assertEquals(0, result.Equity(1));
+        assertArrayEquals(new double[] { 0, 0 }, result.WinInterval(0));
+        assertArrayEquals(new double[] { 0, 0 }, result.EquityInterval(1));
+    }
+
+    @Test
+    void TrialsMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> EquitySimulator.Simulate(HEADS_UP, null, 0, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> EquitySimulator.Simulate(HEADS_UP, null, -1, null, 1));
+    }
+}
@@ -0,0 +1,99 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Checks of game states taken from a running PokerGame
+class GameStateTest {
+    // Takes a snapshot of the game when the Draw stage starts and after every player's draw
+    static final class SnapshotListener implements GameListener {
+        PokerGame game;
+        final List<GameState> deals = new ArrayList<GameState>();
+        final List<GameState> drawStarts = new ArrayList<GameState>();
+        final List<GameState> afterDraws = new ArrayList<GameState>();
+        final List<Integer> winnerMasks = new ArrayList<Integer>();
+
+        @Override
+        public void StageStarted(GameStage stage) {
+            if (stage == GameStage.Draw) {
+                drawStarts.add(game.Snapshot());
+            }
+        }
+
+        @Override
+        public void HandsDealt(List<Hand> hands) {
+            deals.add(game.Snapshot());
+        }
+
+        @Override
+        public void CardsDrawn(Hand hand, int discardMask) {
+            afterDraws.add(game.Snapshot());
+        }
+
+        @Override
+        public void HandsScored(List<Hand> hands, int winnerMask) {
+            winnerMasks.add(winnerMask);
+        }
+    }
+
+    @Test
+    void SnapshotsNameTheNextPlayerToDraw() {
+        int numPlayers = 4;
+        SnapshotListener listener = new SnapshotListener();
+        PlayerStrategy[] strategies = { BotStrategy.INSTANCE, BotStrategy.INSTANCE, BotStrategy.INSTANCE, BotStrategy.INSTANCE };
+        listener.game = new PokerGame(new CardDeck(), strategies, listener);
+        for (long seed = 0; seed < 3; seed++) {
+            listener.game.Play(seed);
+        }
+
+        assertEquals(3, listener.deals.size());
+        assertEquals(3, listener.drawStarts.size());
+        for (GameState state : listener.deals) {
+            // Once dealt, the game is ready for player 1 to draw
+            assertEquals(GameStage.Draw, state.Stage());
+            assertEquals(0, state.DrawPlayer());
+        }
+        for (GameState state : listener.drawStarts) {
+            // Every game's Draw stage starts with player 1, even after a game where all players drew
+            assertEquals(GameStage.Draw, state.Stage());
+            assertEquals(0, state.DrawPlayer());
+        }
+        assertEquals(3 * numPlayers, listener.afterDraws.size());
+        for (int numDraw = 0; numDraw < listener.afterDraws.size(); numDraw++) {
+            GameState state = listener.afterDraws.get(numDraw);
+            int player = numDraw % numPlayers;
+            if (player < numPlayers - 1) {
+                assertEquals(GameStage.Draw, state.Stage());
+                assertEquals(player + 1, state.DrawPlayer());
+            }
+            else {
+                // Once the last player has drawn the game is ready to score
+                assertEquals(GameStage.Score, state.Stage());
+            }
+        }
+    }
+
+    @Test
+    void SnapshotsPlayOnToTheSameWinners() {
+        SnapshotListener listener = new SnapshotListener();
+        PlayerStrategy[] strategies = { BotStrategy.INSTANCE, BotStrategy.INSTANCE, BotStrategy.INSTANCE };
+        listener.game = new PokerGame(new CardDeck(), strategies, listener);
+        int numGames = 200;
+        for (long seed = 0; seed < numGames; seed++) {
+            listener.game.Play(seed);
+        }
+        Hand hand = new Hand();
+        for (int game = 0; game < numGames; game++) {
+            int winnerMask = listener.winnerMasks.get(game);
+            assertEquals(winnerMask, listener.deals.get(game).DrawAll(BotStrategy.INSTANCE, hand).WinnerMask());
+            assertEquals(winnerMask, listener.drawStarts.get(game).DrawAll(BotStrategy.INSTANCE, hand).WinnerMask());
+            for (int player = 0; player < strategies.length; player++) {
+                GameState state = listener.afterDraws.get(game * strategies.length + player);
+                assertEquals(winnerMask, state.DrawAll(BotStrategy.INSTANCE, hand).WinnerMask());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// Checks of the exhaustive parallel enumeration of every five card hand
+class HandEnumeratorTest {
+    @Test
+    void EvaluatorModeMatchesFrequencies() {
+        long[] counts = HandEnumerator.CountRanks(new CardDeck(), HandEnumerator.MODE_EVALUATOR);
+        assertArrayEquals(HandEvaluator.FIVE_CARD_FREQUENCIES, counts);
+        assertTrue(HandEnumerator.MatchesExpected(counts));
+    }
+
+    @Test
+    void HandModeMatchesFrequencies() {
+        assertArrayEquals(HandEvaluator.FIVE_CARD_FREQUENCIES, HandEnumerator.CountRanks(new CardDeck(), HandEnumerator.MODE_HAND));
+    }
+
+    @Test
+    void WrongCountsDoNotMatch() {
+        long[] counts = HandEvaluator.FIVE_CARD_FREQUENCIES.clone();
+        counts[HandRank.Pair.ordinal()]--;
+        counts[HandRank.Nothing.ordinal()]++;
+        assertFalse(HandEnumerator.MatchesExpected(counts));
+    }
+
+    @Test
+    void RejectsPartlyDealtDecks() {
+        CardDeck deck = new CardDeck();
+        deck.NextCard();
+        assertThrows(IllegalArgumentException.class, () -> HandEnumerator.CountRanks(deck, HandEnumerator.MODE_EVALUATOR));
+    }
+}
@@ -0,0 +1,59 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Exhaustive checks of the five card evaluator against the known hand rank frequencies
+class HandEvaluatorTest {
+    // Number of five card hands in a 52 card deck
+    static final long NUM_HANDS = 2598960;
+
+    @Test
+    void FrequenciesAddUpToEveryHand() {
+        assertEquals(NUM_HANDS, Arrays.stream(HandEvaluator.FIVE_CARD_FREQUENCIES).sum());
+    }
+
+    @Test
+    void EveryHandMatchesFrequencies() {
+        long[] counts = new long[HandEvaluator.FIVE_CARD_FREQUENCIES.length];
+        for (int c4 = 4; c4 < HandEvaluator.NUM_CARDS; c4++) {
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            counts[HandEvaluator.Evaluate(c0, c1, c2, c3, c4) >>> HandEvaluator.RANK_SHIFT]++;
+                        }
+                    }
+                }
+            }
+        }
+        assertArrayEquals(HandEvaluator.FIVE_CARD_FREQUENCIES, counts);
+    }
+
+    @Test
+    void CardListMatchesCardIndices() {
+        int[][] hands = { { 0, 14, 28, 42, 51 }, { 12, 11, 10, 9, 8 }, { 0, 13, 26, 1, 14 }, { 12, 25, 38, 51, 0 }, { 3, 16, 29, 7, 33 } };
+        for (int[] hand : hands) {
+            List<Card> cards = new ArrayList<Card>();
+            for (int card : hand) {
+                cards.add(Card.Of(card));
+            }
+            assertEquals(HandEvaluator.Evaluate(hand[0], hand[1], hand[2], hand[3], hand[4]), HandEvaluator.Evaluate(cards));
+        }
+    }
+
+    @Test
+    void RanksAndHighCards() {
+        // Ace high straight flush in Spades is a royal flush, Ace to Five is a Five high straight
+        int royal = HandEvaluator.Evaluate(47, 48, 49, 50, 51);
+        assertEquals(HandRank.RoyalFlush, HandEvaluator.Rank(royal));
+        int wheel = HandEvaluator.Evaluate(12, 0, 14, 28, 42);
+        assertEquals(HandRank.Straight, HandEvaluator.Rank(wheel));
+        assertEquals(CardFace.Five, HandEvaluator.HighCard(wheel));
+    }
+}
@@ -0,0 +1,32 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+// Checks of scoring text files of hands
+class HandFileScorerTest {
+    // Returns the output of scoring lines of hands
+    static String Score(String lines) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        HandFileScorer.Score(Channels.newChannel(new ByteArrayInputStream(lines.getBytes(StandardCharsets.US_ASCII))),
+                Channels.newChannel(output));
+        return output.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void RanksEveryLine() throws IOException {
+        assertEquals("Pair\nStraight\nUnranked\nUnranked\n", Score("AS AD 7H 6C 2D\n9S  8D 7H 6C 5D\nAS AS 7H 6C 2D\nAS KD XX 6C 2D\n"));
+    }
+
+    @Test
+    void JokersAreWild() throws IOException {
+        assertEquals("ThreeOfAKind\nFourOfAKind\nFiveOfAKind\nUnranked\n",
+                Score("JK AD 7H 6C 7D\nJK jk 7H 7C 2D\nJK JK 7H 7C 7D\nJK JK JK 7C 2D\n"));
+    }
+}
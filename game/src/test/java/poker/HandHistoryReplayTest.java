@@ -0,0 +1,74 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Checks that recorded hand histories replay and verify
+class HandHistoryReplayTest {
+    // Records bot games with game n played from seed n
+    static void Record(Path historyDirectory, long bytesPerSegment, int numGames, int numPlayers) throws IOException {
+        Record(historyDirectory, WildCards.NONE, bytesPerSegment, numGames, numPlayers);
+    }
+
+    // Records bot games dealt with wild cards, with game n played from seed n
+    static void Record(Path historyDirectory, WildCards wildCards, long bytesPerSegment, int numGames, int numPlayers) throws IOException {
+        try (HandHistoryWriter writer = new HandHistoryWriter(historyDirectory, wildCards, bytesPerSegment, 1 << 16, 1000)) {
+            PlayerStrategy[] strategies = new PlayerStrategy[numPlayers];
+            Arrays.fill(strategies, BotStrategy.INSTANCE);
+            PokerGame game = new PokerGame(new CardDeck(0, wildCards), strategies, writer);
+            for (long seed = 0; seed < numGames; seed++) {
+                game.Play(seed);
+            }
+        }
+    }
+
+    @Test
+    void ReplaysDefaultSegments(@TempDir Path historyDirectory) throws IOException {
+        Record(historyDirectory, HandHistoryWriter.DEFAULT_SEGMENT_BYTES, 2000, 4);
+        HandHistoryReplay.Summary summary = HandHistoryReplay.Replay(historyDirectory);
+        assertEquals(2000, summary.games);
+        assertEquals(0, summary.strengthMismatches);
+        assertEquals(0, summary.winnerMismatches);
+    }
+
+    @Test
+    void GamesSpanningSegmentsVerify(@TempDir Path historyDirectory) throws IOException {
+        // Nine records per segment - a four player game is 14 records, so many games have their SCORE
+        // records split between two segments
+        Record(historyDirectory, HandHistoryWriter.HEADER_BYTES + 9 * HandHistoryWriter.RECORD_BYTES, 500, 4);
+        assertTrue(HandHistoryWriter.Segments(historyDirectory).size() > 500);
+        HandHistoryReplay.Summary summary = HandHistoryReplay.Replay(historyDirectory);
+        assertEquals(500, summary.games);
+        assertEquals(0, summary.strengthMismatches);
+        assertEquals(0, summary.winnerMismatches);
+    }
+
+    @Test
+    void WildGamesReplayWithTheirWildCards(@TempDir Path historyDirectory) throws IOException {
+        Record(historyDirectory.resolve("joker"), WildCards.Of(1), HandHistoryWriter.DEFAULT_SEGMENT_BYTES, 2000, 4);
+        Record(historyDirectory.resolve("deuces"), WildCards.Of(0, CardFace.Two), HandHistoryWriter.DEFAULT_SEGMENT_BYTES, 2000, 4);
+        for (String mode : new String[] { "joker", "deuces" }) {
+            HandHistoryReplay.Summary summary = HandHistoryReplay.Replay(historyDirectory.resolve(mode));
+            assertEquals(2000, summary.games);
+            assertEquals(0, summary.strengthMismatches);
+            assertEquals(0, summary.winnerMismatches);
+        }
+    }
+
+    @Test
+    void RejectsGamesOfAnotherDeckMode(@TempDir Path historyDirectory) throws IOException {
+        try (HandHistoryWriter writer = new HandHistoryWriter(historyDirectory)) {
+            PlayerStrategy[] strategies = new PlayerStrategy[4];
+            Arrays.fill(strategies, BotStrategy.INSTANCE);
+            PokerGame game = new PokerGame(new CardDeck(0, WildCards.Of(1)), strategies, writer);
+            assertThrows(IllegalArgumentException.class, () -> game.Play(0));
+        }
+    }
+}
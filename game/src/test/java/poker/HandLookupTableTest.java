@@ -0,0 +1,48 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Checks of the memory-mapped lookup table against the evaluator it is built from
+class HandLookupTableTest {
+    @Test
+    void LookupTableMatchesEvaluator(@TempDir Path tempDirectory) throws IOException {
+        Path tablePath = tempDirectory.resolve("hands.tbl");
+        HandLookupTable.Build(tablePath);
+        HandLookupTable table = HandLookupTable.Load(tablePath);
+        for (int c4 = 4; c4 < HandEvaluator.NUM_CARDS; c4++) {
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            if (table.Lookup(c0, c1, c2, c3, c4) != HandEvaluator.Evaluate(c0, c1, c2, c3, c4)) {
+                                fail("Lookup table differs from the evaluator for cards " + c0 + " " + c1 + " " + c2 + " " + c3 + " " + c4);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void IndexIgnoresCardOrder() {
+        assertEquals(HandLookupTable.Index(3, 17, 30, 44, 51), HandLookupTable.Index(51, 44, 30, 17, 3));
+        assertEquals(0, HandLookupTable.Index(0, 1, 2, 3, 4));
+        assertEquals(HandLookupTable.NUM_HANDS - 1, HandLookupTable.Index(47, 48, 49, 50, 51));
+    }
+
+    @Test
+    void RejectsFilesThatAreNotTables(@TempDir Path tempDirectory) throws IOException {
+        Path badPath = tempDirectory.resolve("bad.tbl");
+        Files.write(badPath, new byte[64]);
+        assertThrows(IOException.class, () -> HandLookupTable.Load(badPath));
+    }
+}
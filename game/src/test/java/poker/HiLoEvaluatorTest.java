@@ -0,0 +1,81 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+// Exhaustive checks of the high and low keys of every five card hand
+class HiLoEvaluatorTest {
+    // Returns the CardSet mask of card codes separated by spaces, for example "AS KD 7H 7C 2D"
+    static long Mask(String codes) {
+        long mask = 0;
+        for (int offset = 0; offset < codes.length(); offset += 3) {
+            mask |= CardSet.Bit(CardCodes.Parse(codes, offset));
+        }
+        return mask;
+    }
+
+    @Test
+    void KeysOfEveryHand() {
+        Set<Integer> high = new HashSet<Integer>();
+        Set<Integer> aceToFive = new HashSet<Integer>();
+        Set<Integer> deuceToSeven = new HashSet<Integer>();
+        int eightOrBetter = 0;
+        int highMismatches = 0;
+        int[] keys = new int[HiLoEvaluator.NUM_KEYS];
+        for (int c4 = 4; c4 < HandEvaluator.NUM_CARDS; c4++) {
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            long mask = CardSet.Bit(c0) | CardSet.Bit(c1) | CardSet.Bit(c2) | CardSet.Bit(c3) | CardSet.Bit(c4);
+                            HiLoEvaluator.Evaluate(mask, keys, 0);
+                            if (keys[HiLoEvaluator.HIGH] != HandEvaluator.Evaluate(mask)) {
+                                highMismatches++;
+                            }
+                            high.add(keys[HiLoEvaluator.HIGH]);
+                            aceToFive.add(keys[HiLoEvaluator.ACE_TO_FIVE]);
+                            deuceToSeven.add(keys[HiLoEvaluator.DEUCE_TO_SEVEN]);
+                            if (keys[HiLoEvaluator.ACE_TO_FIVE] >= HiLoEvaluator.EIGHT_OR_BETTER) {
+                                eightOrBetter++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(0, highMismatches);
+        assertEquals(HiLoEvaluator.DISTINCT_HIGH, high.size());
+        assertEquals(HiLoEvaluator.DISTINCT_ACE_TO_FIVE, aceToFive.size());
+        assertEquals(HiLoEvaluator.DISTINCT_DEUCE_TO_SEVEN, deuceToSeven.size());
+        // 56 sets of five faces from Ace to Eight, 4 suits for each card
+        assertEquals(56 * 1024, eightOrBetter);
+    }
+
+    @Test
+    void BestLows() {
+        // The wheel is the best Ace-to-Five low even as a straight flush, but only a Five high straight when high
+        assertTrue(HiLoEvaluator.AceToFiveLow(Mask("5S 4S 3S 2S AS")) > HiLoEvaluator.AceToFiveLow(Mask("6D 4S 3S 2S AS")));
+        assertTrue(HiLoEvaluator.AceToFiveLow(Mask("5S 4S 3S 2S AS")) > HiLoEvaluator.AceToFiveLow(Mask("6D 4C 3H 2S AD")));
+        // Deuce-to-Seven: 7-5-4-3-2 beats the wheel (Ace high) and any straight or flush
+        assertTrue(HiLoEvaluator.DeuceToSevenLow(Mask("7D 5C 4H 3S 2D")) > HiLoEvaluator.DeuceToSevenLow(Mask("5D 4C 3H 2S AD")));
+        assertTrue(HiLoEvaluator.DeuceToSevenLow(Mask("7D 5C 4H 3S 2D")) > HiLoEvaluator.DeuceToSevenLow(Mask("6D 5C 4H 3S 2D")));
+        assertTrue(HiLoEvaluator.DeuceToSevenLow(Mask("8D 5C 4H 3S 2D")) > HiLoEvaluator.DeuceToSevenLow(Mask("7D 5D 4D 3D 2D")));
+    }
+
+    @Test
+    void EightOrBetterQualifier() {
+        assertEquals(HiLoEvaluator.EIGHT_OR_BETTER, HiLoEvaluator.AceToFiveLow(Mask("8S 7H 6D 5C 4S")));
+        assertTrue(HiLoEvaluator.AceToFiveLow(Mask("9S 4H 3D 2C AS")) < HiLoEvaluator.EIGHT_OR_BETTER);
+        assertTrue(HiLoEvaluator.AceToFiveLow(Mask("8S 8H 3D 2C AS")) < HiLoEvaluator.EIGHT_OR_BETTER);
+    }
+
+    @Test
+    void RejectsJokers() {
+        assertThrows(IllegalArgumentException.class, () -> HiLoEvaluator.AceToFiveLow(Mask("5S 4S 3S 2S") | CardSet.Bit(CardDeck.JOKER)));
+    }
+}
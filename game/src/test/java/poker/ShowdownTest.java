@@ -0,0 +1,107 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Checks of showdown ordering - ties, kickers and pot splitting
+class ShowdownTest {
+    // Returns the card index of the card code at an offset - face then suit, for example "AS" or "7H"
+    static int CardIndex(String codes, int offset) {
+        int face = "23456789TJQKA".indexOf(codes.charAt(offset));
+        int suit = "CDHS".indexOf(codes.charAt(offset + 1));
+        return suit * HandEvaluator.NUM_FACES + face;
+    }
+
+    // Returns a ranked hand of card codes for a player, for example "AS KD 7H 7C 2D"
+    static Hand RankedHand(int playerNumber, String codes) {
+        Hand hand = new Hand();
+        hand.playerNumber = playerNumber;
+        for (int offset = 0; offset < codes.length(); offset += 3) {
+            hand.Add(CardIndex(codes, offset));
+        }
+        hand.GetRank();
+        return hand;
+    }
+
+    // Returns the player numbers of hands in order
+    static int[] Players(List<Hand> hands) {
+        return hands.stream().mapToInt(hand -> hand.playerNumber).toArray();
+    }
+
+    @Test
+    void KickersBreakTies() {
+        List<Hand> hands = new ArrayList<Hand>();
+        hands.add(RankedHand(1, "AS AD KH 7C 2D"));
+        hands.add(RankedHand(2, "AH AC KD 7S 3D"));
+        hands.add(RankedHand(3, "AH AC QD JS TD"));
+        assertArrayEquals(new int[] { 2, 1, 3 }, Players(Main.OrderHands(hands)));
+        assertArrayEquals(new int[] { 2 }, Showdown.Winners(hands));
+    }
+
+    @Test
+    void TwoPairKicker() {
+        List<Hand> hands = new ArrayList<Hand>();
+        hands.add(RankedHand(1, "KS KD 4H 4C 2D"));
+        hands.add(RankedHand(2, "KH KC 4D 4S 3D"));
+        hands.add(RankedHand(3, "KH KC 3S 3C AD"));
+        assertArrayEquals(new int[] { 2, 1, 3 }, Players(Main.OrderHands(hands)));
+    }
+
+    @Test
+    void HighCardComparesEveryFace() {
+        List<Hand> hands = new ArrayList<Hand>();
+        hands.add(RankedHand(1, "AS JD 8H 6C 3D"));
+        hands.add(RankedHand(2, "AH JC 8D 6S 2D"));
+        assertArrayEquals(new int[] { 1, 2 }, Players(Main.OrderHands(hands)));
+    }
+
+    @Test
+    void EqualHandsSplitInSeatOrder() {
+        List<Hand> hands = new ArrayList<Hand>();
+        hands.add(RankedHand(3, "9S 8D 7H 6C 5D"));
+        hands.add(RankedHand(1, "AS AD KH 7C 2D"));
+        hands.add(RankedHand(2, "9H 8C 7D 6S 5C"));
+        assertArrayEquals(new int[] { 2, 3, 1 }, Players(Main.OrderHands(hands)));
+        assertArrayEquals(new int[] { 2, 3 }, Showdown.Winners(hands));
+    }
+
+    @Test
+    void WheelLosesToSixHighStraight() {
+        List<Hand> hands = new ArrayList<Hand>();
+        hands.add(RankedHand(1, "5S 4D 3H 2C AD"));
+        hands.add(RankedHand(2, "6H 5C 4S 3D 2D"));
+        assertArrayEquals(new int[] { 2 }, Showdown.Winners(hands));
+    }
+
+    @Test
+    void TablesResolveTiesAndKickers() {
+        int[] handCards = new int[2 * 3 * 5];
+        String[] tables = {
+            "AS AD KH 7C 2D", "AH AC KD 7S 3D", "AH AC QD JS TD",
+            "9S 8D 7H 6C 5D", "AS AD KH 7C 2D", "9H 8C 7D 6S 5C"
+        };
+        for (int hand = 0; hand < tables.length; hand++) {
+            for (int card = 0; card < 5; card++) {
+                handCards[hand * 5 + card] = CardIndex(tables[hand], card * 3);
+            }
+        }
+        int[] winnerMasks = Showdown.ResolveTables(handCards, 3);
+        assertArrayEquals(new int[] { 0b010, 0b101 }, winnerMasks);
+
+        // Odd chips of a split pot go to the lowest winning seats
+        long[] payouts = new long[6];
+        Showdown.SettlePots(new long[] { 100, 101 }, winnerMasks, 3, payouts);
+        assertArrayEquals(new long[] { 0, 100, 0, 51, 0, 50 }, payouts);
+    }
+
+    @Test
+    void WinnerMaskOfEqualStrengths() {
+        int[] strengths = { 5, 9, 9, 2 };
+        assertEquals(0b0110, Showdown.WinnerMask(strengths, 0, 4));
+        assertEquals(0b01, Showdown.WinnerMask(strengths, 2, 2));
+    }
+}
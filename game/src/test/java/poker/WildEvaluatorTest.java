@@ -0,0 +1,74 @@
+package poker;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+// Exhaustive checks of the wild card evaluator - every five card hand of each deck mode
+class WildEvaluatorTest {
+    @Test
+    void NoWildCardsMatchesStandardFrequencies() {
+        assertArrayEquals(HandEvaluator.FIVE_CARD_FREQUENCIES, WildEvaluator.CountRanks(WildCards.NONE));
+    }
+
+    @Test
+    void OneJokerMatchesFrequencies() {
+        long[] counts = WildEvaluator.CountRanks(WildCards.Of(1));
+        assertArrayEquals(WildEvaluator.ONE_JOKER_FREQUENCIES, counts);
+        assertEquals(2869685, Arrays.stream(counts).sum()); // 53 choose 5
+    }
+
+    @Test
+    void DeucesWildMatchesFrequencies() {
+        long[] counts = WildEvaluator.CountRanks(WildCards.Of(0, CardFace.Two));
+        assertArrayEquals(WildEvaluator.DEUCES_WILD_FREQUENCIES, counts);
+        assertEquals(HandEvaluatorTest.NUM_HANDS, Arrays.stream(counts).sum());
+    }
+
+    @Test
+    void TwoJokersRankEveryHand() {
+        long[] counts = WildEvaluator.CountRanks(WildCards.Of(2));
+        assertEquals(3162510, Arrays.stream(counts).sum()); // 54 choose 5
+        assertEquals(0, counts[HandRank.Unranked.ordinal()]);
+        // Any wild card makes at least a pair, so only the standard deck's hands rank Nothing
+        assertEquals(HandEvaluator.FIVE_CARD_FREQUENCIES[HandRank.Nothing.ordinal()], counts[HandRank.Nothing.ordinal()]);
+    }
+
+    @Test
+    void WildCardsMakeFiveOfAKind() {
+        long naturals = CardSet.Bit(HandEvaluator.CardIndex(CardFace.Nine, CardSuit.Club))
+                | CardSet.Bit(HandEvaluator.CardIndex(CardFace.Nine, CardSuit.Heart))
+                | CardSet.Bit(HandEvaluator.CardIndex(CardFace.Nine, CardSuit.Spade));
+        int strength = WildEvaluator.Evaluate(naturals, 2);
+        assertEquals(HandRank.FiveOfAKind, HandEvaluator.Rank(strength));
+        assertEquals(CardFace.Nine, HandEvaluator.HighCard(strength));
+    }
+
+    @Test
+    void RejectsJokersAsNaturalCards() {
+        assertThrows(IllegalArgumentException.class, () -> WildEvaluator.Evaluate(CardSet.JOKER_MASK | 0x7, 0));
+    }
+
+    @Test
+    void CodesRoundTrip() {
+        assertEquals(0, WildCards.NONE.Code());
+        assertSame(WildCards.NONE, WildCards.OfCode(0));
+        WildCards wildCards = WildCards.Of(2, CardFace.Two, CardFace.Jack);
+        WildCards decoded = WildCards.OfCode(wildCards.Code());
+        assertEquals(2, decoded.NumJokers());
+        assertEquals(wildCards.Mask(), decoded.Mask());
+    }
+
+    @Test
+    void StandardDeckToolsRejectJokers() {
+        int[] hand = { 0, 14, 28, 42, CardDeck.JOKER };
+        assertThrows(IllegalArgumentException.class, () -> new DrawSolver().Solve(hand));
+        assertThrows(IllegalArgumentException.class, () -> SuitCanonicalizer.Canonicalize(hand, null));
+        assertThrows(IllegalArgumentException.class, () -> Showdown.ResolveTables(hand, 1));
+        assertThrows(IllegalArgumentException.class, () -> EquitySimulator.Simulate(new int[][] { hand, {} }, null, 100, null, 1));
+    }
+}
@@ -0,0 +1,196 @@
+package poker;
+
+// Best five card hand out of five to seven cards (Texas Hold'em, Seven Card Stud) without trying the
+// 21 five card subsets of seven cards
+// The cards are taken as a CardSet mask, which splits into four 13 bit suit masks. Adding the suit masks
+// as bit-sliced counters gives, in a few instructions, the mask of faces held once, twice, three times and
+// four times - so every pair, set and quad is found at once. Straights come from shifting the face mask
+// onto itself and flushes from the bit count of each suit mask. The result is the same packed strength
+// HandEvaluator gives the best five card subset, so strengths from both can be compared directly.
+final class BestHandEvaluator {
+    // Face mask of an Ace-low straight (Ace, Two, Three, Four, Five)
+    private static final int WHEEL_MASK = 0x100F;
+
+    private BestHandEvaluator() {}
+
+    // Returns the packed strength of the best five card hand in a CardSet mask of 5 to 7 cards
+    static int Evaluate(long cardMask) {
+        int numCards = Long.bitCount(cardMask);
+        if (numCards < 5 || numCards > 7) {
+            throw new IllegalArgumentException("Hand must hold 5 to 7 cards to be ranked, found " + numCards);
+        }
+        int s0 = CardSet.SuitMask(cardMask, 0);
+        int s1 = CardSet.SuitMask(cardMask, 1);
+        int s2 = CardSet.SuitMask(cardMask, 2);
+        int s3 = CardSet.SuitMask(cardMask, 3);
+
+        // Flush - with 7 cards at most one suit can hold 5 or more
+        int flushMask = Integer.bitCount(s0) >= 5 ? s0 : Integer.bitCount(s1) >= 5 ? s1
+                : Integer.bitCount(s2) >= 5 ? s2 : Integer.bitCount(s3) >= 5 ? s3 : 0;
+        if (flushMask != 0) {
+            int straightHigh = StraightHigh(flushMask);
+            if (straightHigh >= 0) {
+                HandRank rank = straightHigh == CardFace.Ace.ordinal() ? HandRank.RoyalFlush : HandRank.StraightFlush;
+                return HandEvaluator.Pack(rank, straightHigh, 1);
+            }
+        }
+
+        // Count cards per face with bit-sliced adds - one bit of the count per mask
+        int faceMask = s0 | s1 | s2 | s3;
+        int quads = s0 & s1 & s2 & s3;
+        int countBit0 = s0 ^ s1 ^ s2 ^ s3;
+        int countBit1 = ((s0 & s1) | (s2 & s3) | ((s0 ^ s1) & (s2 ^ s3))) & ~quads;
+        int trips = countBit0 & countBit1;
+        int pairs = ~countBit0 & countBit1;
+
+        if (quads != 0) {
+            int quadFace = HighestFace(quads);
+            return HandEvaluator.Pack(HandRank.FourOfAKind, (quadFace << 4) | HighestFace(faceMask & ~quads), 2);
+        }
+        if (trips != 0) {
+            int tripFace = HighestFace(trips);
+            int pairFaces = (trips & ~(1 << tripFace)) | pairs;
+            if (pairFaces != 0) {
+                return HandEvaluator.Pack(HandRank.FullHouse, (tripFace << 4) | HighestFace(pairFaces), 2);
+            }
+        }
+        if (flushMask != 0) {
+            return HandEvaluator.Pack(HandRank.Flush, HandEvaluator.Descending(Highest(flushMask, 5)), 5);
+        }
+        int straightHigh = StraightHigh(faceMask);
+        if (straightHigh >= 0) {
+            return HandEvaluator.Pack(HandRank.Straight, straightHigh, 1);
+        }
+        if (trips != 0) {
+            int tripFace = HighestFace(trips);
+            return HandEvaluator.Pack(HandRank.ThreeOfAKind,
+                    (tripFace << 8) | HandEvaluator.Descending(Highest(faceMask & ~(1 << tripFace), 2)), 3);
+        }
+        if (Integer.bitCount(pairs) >= 2) {
+            int highPairs = Highest(pairs, 2);
+            int highPair = HighestFace(highPairs);
+            int lowPair = Integer.numberOfTrailingZeros(highPairs);
+            return HandEvaluator.Pack(HandRank.TwoPair,
+                    (highPair << 8) | (lowPair << 4) | HighestFace(faceMask & ~highPairs), 3);
+        }
+        if (pairs != 0) {
+            return HandEvaluator.Pack(HandRank.Pair,
+                    (HighestFace(pairs) << 12) | HandEvaluator.Descending(Highest(faceMask & ~pairs, 3)), 4);
+        }
+        return HandEvaluator.Pack(HandRank.Nothing, HandEvaluator.Descending(Highest(faceMask, 5)), 5);
+    }
+
+    // Returns the packed strength of the best five card hand in seven card indices
+    static int Evaluate(int c0, int c1, int c2, int c3, int c4, int c5, int c6) {
+        return Evaluate((1L << c0) | (1L << c1) | (1L << c2) | (1L << c3) | (1L << c4) | (1L << c5) | (1L << c6));
+    }
+
+    // Returns the CardSet mask of a best five card hand in a CardSet mask of 5 to 7 cards
+    // Where cards of the same face are interchangeable, the lowest suits are taken
+    static long BestFive(long cardMask) {
+        return BestFive(cardMask, Evaluate(cardMask));
+    }
+
+    // Returns the CardSet mask of five cards from a mask that make up the specified strength (from Evaluate)
+    static long BestFive(long cardMask, int strength) {
+        HandRank rank = HandEvaluator.Rank(strength);
+        int firstFace = (strength >>> HandEvaluator.HIGH_CARD_SHIFT) & 0xF;
+        switch (rank) {
+            case RoyalFlush:
+            case StraightFlush:
+                return FacesInSuit(StraightFaces(firstFace), FlushSuit(cardMask), cardMask);
+            case Flush:
+                return FacesInSuit(FacesOf(strength, 5), FlushSuit(cardMask), cardMask);
+            case Straight: {
+                long best = 0;
+                for (int faces = StraightFaces(firstFace); faces != 0; faces &= faces - 1) {
+                    best |= CardsOfFace(cardMask, Integer.numberOfTrailingZeros(faces), 1);
+                }
+                return best;
+            }
+            default: {
+                // Groups in strength order - how many cards of each face in the strength to take
+                int[] groupSizes = GROUP_SIZES[rank.ordinal()];
+                long best = 0;
+                for (int group = 0; group < groupSizes.length; group++) {
+                    int face = (strength >>> (HandEvaluator.HIGH_CARD_SHIFT - 4 * group)) & 0xF;
+                    best |= CardsOfFace(cardMask, face, groupSizes[group]);
+                }
+                return best;
+            }
+        }
+    }
+
+    // Card group sizes of the faces packed in a strength, by HandRank ordinal (straights and flushes aside)
+    private static final int[][] GROUP_SIZES = {
+        {}, { 1, 1, 1, 1, 1 }, { 2, 1, 1, 1 }, { 2, 2, 1 }, { 3, 1, 1 }, {}, {}, { 3, 2 }, { 4, 1 }, {}, {}, {}
+    };
+
+    // Returns the mask of the lowest count cards of a face
+    private static long CardsOfFace(long cardMask, int face, int count) {
+        long best = 0;
+        for (int suit = 0; suit < HandEvaluator.NUM_SUITS && count > 0; suit++) {
+            long bit = CardSet.Bit(suit * HandEvaluator.NUM_FACES + face);
+            if ((cardMask & bit) != 0) {
+                best |= bit;
+                count--;
+            }
+        }
+        return best;
+    }
+
+    // Returns the cards of a face mask in one suit
+    private static long FacesInSuit(int faces, int suit, long cardMask) {
+        return ((long) faces << (suit * HandEvaluator.NUM_FACES)) & cardMask;
+    }
+
+    // Returns the suit holding five or more cards
+    private static int FlushSuit(long cardMask) {
+        for (int suit = 0; suit < HandEvaluator.NUM_SUITS; suit++) {
+            if (Integer.bitCount(CardSet.SuitMask(cardMask, suit)) >= 5) {
+                return suit;
+            }
+        }
+        throw new IllegalArgumentException("No flush in cards");
+    }
+
+    // Returns the face mask of the straight with the specified high face
+    private static int StraightFaces(int highFace) {
+        return highFace == CardFace.Five.ordinal() ? WHEEL_MASK : 0x1F << (highFace - 4);
+    }
+
+    // Returns the face mask of the first faces packed in a strength
+    private static int FacesOf(int strength, int numFaces) {
+        int faces = 0;
+        for (int face = 0; face < numFaces; face++) {
+            faces |= 1 << ((strength >>> (HandEvaluator.HIGH_CARD_SHIFT - 4 * face)) & 0xF);
+        }
+        return faces;
+    }
+
+    // Returns the high face of the best straight in a face mask, or -1 if there is none
+    private static int StraightHigh(int faceMask) {
+        // A bit survives where it and the four faces above it are all set - the low face of each straight
+        int runs = faceMask & (faceMask >>> 1) & (faceMask >>> 2) & (faceMask >>> 3) & (faceMask >>> 4);
+        if (runs != 0) {
+            return HighestFace(runs) + 4;
+        }
+        if ((faceMask & WHEEL_MASK) == WHEEL_MASK) {
+            return CardFace.Five.ordinal(); // Ace plays low - the Five is the high card
+        }
+        return -1;
+    }
+
+    // Returns the highest face set in a face mask
+    static int HighestFace(int faceMask) {
+        return 31 - Integer.numberOfLeadingZeros(faceMask);
+    }
+
+    // Returns the highest count faces of a face mask (all of them if it holds fewer)
+    static int Highest(int faceMask, int count) {
+        while (Integer.bitCount(faceMask) > count) {
+            faceMask &= faceMask - 1;
+        }
+        return faceMask;
+    }
+}
@@ -0,0 +1,64 @@
+package poker;
+
+// Simple rule based draw strategy for bots - fast enough to decide millions of draws per second
+// Keeps straights and better, keeps every card that is part of a pair or better and draws the rest,
+// draws to four cards of a flush, and otherwise keeps only the highest card - wild cards are always kept
+final class BotStrategy implements PlayerStrategy {
+    // Single shared instance - the strategy holds no state
+    static final BotStrategy INSTANCE = new BotStrategy();
+
+    private BotStrategy() {}
+
+    @Override
+    public int ChooseDiscards(int playerNumber, Hand hand) {
+        // Counts held in primitives - 4 bits per face and 4 bits per suit - of the natural cards only
+        // Wild cards are never drawn
+        long faceCounts = 0;
+        int suitCounts = 0;
+        int wildPositions = 0;
+        for (int numCard = 0; numCard < 5; numCard++) {
+            int card = hand.CardIndex(numCard);
+            if (hand.wildCards.IsWild(card)) {
+                wildPositions |= 1 << numCard;
+                continue;
+            }
+            faceCounts += 1L << (HandEvaluator.Face(card) << 2);
+            suitCounts += 1 << (HandEvaluator.Suit(card) << 2);
+        }
+        int strength = wildPositions == 0 ? HandEvaluator.Evaluate(hand.Mask()) : hand.wildCards.Evaluate(hand.Mask());
+        if ((strength >>> HandEvaluator.RANK_SHIFT) >= HandRank.Straight.ordinal()) {
+            return 0; // Made hand - stand pat
+        }
+
+        // Draw every natural card that isn't part of a pair or better
+        int discardMask = 0;
+        for (int numCard = 0; numCard < 5; numCard++) {
+            if ((wildPositions & (1 << numCard)) == 0
+                    && ((faceCounts >>> (HandEvaluator.Face(hand.CardIndex(numCard)) << 2)) & 0xF) < 2) {
+                discardMask |= 1 << numCard;
+            }
+        }
+        if ((discardMask | wildPositions) != 0x1F) {
+            return discardMask;
+        }
+
+        // Nothing - draw to four of a flush, otherwise keep the highest card (and any wild cards)
+        int highCard = -1;
+        int flushDrawMask = 0;
+        for (int numCard = 0; numCard < 5; numCard++) {
+            if ((wildPositions & (1 << numCard)) != 0) {
+                continue;
+            }
+            int card = hand.CardIndex(numCard);
+            if (((suitCounts >>> (HandEvaluator.Suit(card) << 2)) & 0xF) == 1) {
+                flushDrawMask |= 1 << numCard;
+            }
+            if (highCard < 0 || HandEvaluator.Face(card) > HandEvaluator.Face(hand.CardIndex(highCard))) {
+                highCard = numCard;
+            }
+        }
+        // Four of a flush leaves exactly one card whose suit appears once
+        boolean fourFlush = ((suitCounts & 0x4444) != 0) && Integer.bitCount(flushDrawMask) == 1;
+        return fourFlush ? flushDrawMask : 0x1F & ~(1 << highCard) & ~wildPositions;
+    }
+}
@@ -0,0 +1,68 @@
+package poker;
+
+final class Card { // Definition for a card - immutable, with one shared instance per card (see Of)
+    // Holds card face (null for a joker)
+    public final CardFace face;
+
+    // Holds card suit (null for a joker)
+    public final CardSuit suit;
+
+    // Holds the card index (0-51, suit then face, then the jokers from CardDeck.JOKER) - also the
+    // HandEvaluator card index and the CardSet bit
+    public final int index;
+
+    // Holds the only instance of each card, indexed by card index
+    private static final Card[] CARDS = CreateCards();
+
+    private Card(CardFace cardFace, CardSuit cardSuit, int cardIndex)
+    {
+        face = cardFace;
+        suit = cardSuit;
+        index = cardIndex;
+    }
+
+    private static Card[] CreateCards()
+    {
+        // Created in order of suit, then face value
+        Card[] cards = new Card[CardDeck.NUM_CARDS + CardDeck.MAX_JOKERS];
+        for (CardSuit suit : CardSuit.values())
+        {
+            for (CardFace face : CardFace.values())
+            {
+                int cardIndex = suit.ordinal() * CardFace.values().length + face.ordinal();
+                cards[cardIndex] = new Card(face, suit, cardIndex);
+            }
+        }
+        // Jokers have neither face nor suit
+        for (int cardIndex = CardDeck.JOKER; cardIndex < cards.length; cardIndex++)
+        {
+            cards[cardIndex] = new Card(null, null, cardIndex);
+        }
+        return cards;
+    }
+
+    // Returns true if the card is a joker
+    public boolean IsJoker()
+    {
+        return index >= CardDeck.JOKER;
+    }
+
+    // Returns the name of the card, for example "Ace of Spades" or "Joker"
+    @Override
+    public String toString()
+    {
+        return IsJoker() ? "Joker" : face + " of " + suit + "s";
+    }
+
+    // Returns the card with a card index
+    public static Card Of(int cardIndex)
+    {
+        return CARDS[cardIndex];
+    }
+
+    // Returns the card with a face and suit
+    public static Card Of(CardFace face, CardSuit suit)
+    {
+        return CARDS[suit.ordinal() * CardFace.values().length + face.ordinal()];
+    }
+}
@@ -0,0 +1,81 @@
+package poker;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Two character text codes for cards - face then suit, for example "AS" (Ace of Spades) or "7H"
+final class CardCodes {
+    // Face codes in CardFace order, suit codes in CardSuit order
+    static final String FACE_CODES = "23456789TJQKA";
+    static final String SUIT_CODES = "CDHS";
+
+    // Face and suit of each ASCII code byte, -1 where the byte isn't a code
+    private static final byte[] FACE_OF_BYTE = CodeTable(FACE_CODES);
+    private static final byte[] SUIT_OF_BYTE = CodeTable(SUIT_CODES);
+
+    private CardCodes() {}
+
+    private static byte[] CodeTable(String codes) {
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        for (int code = 0; code < codes.length(); code++) {
+            table[codes.charAt(code)] = (byte) code;
+            table[Character.toLowerCase(codes.charAt(code))] = (byte) code;
+        }
+        return table;
+    }
+
+    // Code of a joker - J then a letter that isn't a suit code, so it can't be mistaken for a Jack
+    static final String JOKER_CODE = "JK";
+
+    // Returns the code of a card
+    static String Code(Card card) {
+        return card.IsJoker() ? JOKER_CODE : "" + FACE_CODES.charAt(card.face.ordinal()) + SUIT_CODES.charAt(card.suit.ordinal());
+    }
+
+    // Returns the codes of cards separated by spaces, for example "AS KD 7H 7C 2D"
+    static String Codes(List<Card> cards) {
+        StringBuilder codes = new StringBuilder(cards.size() * 3);
+        for (int numCard = 0; numCard < cards.size(); numCard++) {
+            if (numCard > 0) {
+                codes.append(' ');
+            }
+            Card card = cards.get(numCard);
+            if (card.IsJoker()) {
+                codes.append(JOKER_CODE);
+            }
+            else {
+                codes.append(FACE_CODES.charAt(card.face.ordinal())).append(SUIT_CODES.charAt(card.suit.ordinal()));
+            }
+        }
+        return codes.toString();
+    }
+
+    // Returns the card index of the code at the specified offset, or -1 if it isn't a card code
+    // Face and suit codes are accepted in either case
+    static int Parse(CharSequence text, int offset) {
+        if (offset + 1 >= text.length()) {
+            return -1;
+        }
+        int face = FACE_CODES.indexOf(Character.toUpperCase(text.charAt(offset)));
+        int suit = SUIT_CODES.indexOf(Character.toUpperCase(text.charAt(offset + 1)));
+        if (face < 0 || suit < 0) {
+            return -1;
+        }
+        return suit * HandEvaluator.NUM_FACES + face;
+    }
+
+    // Returns the card index of a face code byte and suit code byte, or -1 if they aren't a card code
+    // Works on raw ASCII bytes so text can be parsed without decoding it into Strings
+    static int Parse(byte faceCode, byte suitCode) {
+        if (faceCode < 0 || suitCode < 0) {
+            return -1;
+        }
+        int face = FACE_OF_BYTE[faceCode];
+        int suit = SUIT_OF_BYTE[suitCode];
+        if (face < 0 || suit < 0) {
+            return -1;
+        }
+        return suit * HandEvaluator.NUM_FACES + face;
+    }
+}
@@ -0,0 +1,263 @@
+package poker;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+class CardDeck { // Definition for a deck of cards (52 card deck, plus any jokers of its WildCards)
+    // Number of cards in a full deck without jokers
+    public static final int NUM_CARDS = 52;
+
+    // Card index of the first joker - jokers follow the 52 standard cards
+    public static final int JOKER = NUM_CARDS;
+
+    // Most jokers a deck can hold
+    public static final int MAX_JOKERS = 2;
+
+    // Holds the deck order as card indices (see Card.Of) - positions before top have been dealt,
+    // the rest are still in the deck
+    private final int[] cards;
+
+    // Holds the position of the top card of the deck - always moved together with remaining
+    private int top = 0;
+
+    // Holds the wild cards of the deck - its jokers and any wild faces (WildCards.NONE for a standard deck)
+    public final WildCards wildCards;
+
+    // Holds every card of the deck as a CardSet mask
+    private final long fullMask;
+
+    // Holds the cards still in the deck as a CardSet mask
+    private long remaining;
+
+    // Holds the random number generator used to shuffle
+    private RandomGenerator random;
+
+    // Holds the seed the random number generator was created from (0 if a generator was passed in)
+    private long seed;
+
+    // Constructor - creates the initial deck, shuffled from a random (but recorded) seed
+    public CardDeck()
+    {
+        this(new SplittableRandom().nextLong());
+    }
+
+    // Constructor - creates the initial deck, shuffled from the specified seed so the deal can be reproduced
+    public CardDeck(long randomSeed)
+    {
+        this(new SplittableRandom(randomSeed), randomSeed);
+    }
+
+    // Constructor - creates the initial deck, shuffled by the specified random number generator
+    public CardDeck(RandomGenerator randomGenerator)
+    {
+        this(randomGenerator, 0, WildCards.NONE);
+    }
+
+    // Constructor - creates a deck with the jokers and wild faces of the specified wild cards, shuffled from
+    // the specified seed
+    public CardDeck(long randomSeed, WildCards deckWildCards)
+    {
+        this(new SplittableRandom(randomSeed), randomSeed, deckWildCards);
+    }
+
+    private CardDeck(RandomGenerator randomGenerator, long randomSeed)
+    {
+        this(randomGenerator, randomSeed, WildCards.NONE);
+    }
+
+    private CardDeck(RandomGenerator randomGenerator, long randomSeed, WildCards deckWildCards)
+    {
+        random = randomGenerator;
+        seed = randomSeed;
+        wildCards = deckWildCards;
+        cards = new int[NUM_CARDS + wildCards.NumJokers()];
+        fullMask = CardSet.FULL_MASK | (CardSet.JOKER_MASK & ((1L << cards.length) - 1));
+        remaining = fullMask;
+        // Deck is created in order of suit, then face value, then jokers - the order of the card indices
+        for (int cardIndex = 0; cardIndex < cards.length; cardIndex++)
+        {
+            cards[cardIndex] = cardIndex;
+        }
+    }
+
+    // Replaces the random number generator with one created from the specified seed and puts every card
+    // back in creation order, so the next shuffle can be reproduced on its own (the shuffle starts from
+    // the current order, which otherwise depends on every game dealt before)
+    public void Reseed(long randomSeed)
+    {
+        random = new SplittableRandom(randomSeed);
+        seed = randomSeed;
+        for (int cardIndex = 0; cardIndex < cards.length; cardIndex++)
+        {
+            cards[cardIndex] = cardIndex;
+        }
+        Reset();
+    }
+
+    // Returns the seed the random number generator was created from (0 if a generator was passed in)
+    public long Seed()
+    {
+        return seed;
+    }
+
+    // Returns the card index at a position of the deck order (see Top)
+    public int CardAt(int position)
+    {
+        return cards[position];
+    }
+
+    // Returns a copy of the deck order as card indices - dealt cards first, then the cards still in the deck
+    public int[] Order()
+    {
+        return cards.clone();
+    }
+
+    // Returns the card for a card index
+    public Card GetCard(int cardIndex)
+    {
+        return Card.Of(cardIndex);
+    }
+
+    // Returns the number of cards in the full deck (52 plus any jokers)
+    public int Size()
+    {
+        return cards.length;
+    }
+
+    // Returns the number of cards still in the deck
+    public int Remaining()
+    {
+        return cards.length - top;
+    }
+
+    // Returns the position of the top card of the deck - the number of cards taken off it since the last Reset
+    public int Top()
+    {
+        return top;
+    }
+
+    // Returns the cards still in the deck
+    public CardSet RemainingCards()
+    {
+        return new CardSet(remaining);
+    }
+
+    // Returns true if the card is still in the deck
+    public boolean Contains(int cardIndex)
+    {
+        return (remaining & CardSet.Bit(cardIndex)) != 0;
+    }
+
+    // Returns all dealt cards to the deck (in their current order) so the deck can be shuffled and dealt again
+    public void Reset()
+    {
+        top = 0;
+        remaining = fullMask;
+    }
+
+    // Returns the cards taken off the deck after the specified position (see Top) to the deck, in their current
+    // order - both the deck order and the remaining cards go back to how they were at that position
+    public void Rewind(int position)
+    {
+        if (position < 0 || position > top) {
+            throw new IllegalArgumentException("Deck can only be rewound to a position from 0 to " + top + ", not " + position);
+        }
+        for (int card = position; card < top; card++) {
+            remaining |= CardSet.Bit(cards[card]);
+        }
+        top = position;
+    }
+
+    // Shuffles the cards remaining in the deck a single time
+    // Fisher-Yates - one pass, in place, every order equally likely
+    public void Shuffle() {
+        long startTime = Metrics.Now();
+        for (int position = cards.length - 1; position > top; position--)
+        {
+            // Swap this position with a random position at or below it (but not a dealt one)
+            int randomPosition = top + random.nextInt(position - top + 1);
+            int card = cards[position];
+            cards[position] = cards[randomPosition];
+            cards[randomPosition] = card;
+        }
+        if (Metrics.ENABLED) {
+            Metrics.SHUFFLE.RecordSince(startTime);
+        }
+    }
+
+    // Shuffles the deck a specified number of times
+    // A single Fisher-Yates pass is already uniform - repeated shuffles are kept for callers that ask for them
+    public void Shuffle(int numTimes) {
+        for (int i = 1; i <= numTimes; i++)
+        {
+            Shuffle(); // Call single shuffle
+        }
+    }
+
+    // Takes the top card off the deck and returns its card index
+    public int NextCard()
+    {
+        if (top >= cards.length) {
+            throw new IllegalStateException("No cards left in deck");
+        }
+        int card = cards[top++];
+        remaining &= ~CardSet.Bit(card);
+        return card;
+    }
+
+    // Takes a random card out of the remaining deck and returns its card index
+    // Same as one step of the Fisher-Yates shuffle, so callers that only need a few random
+    // cards don't pay for shuffling the whole deck
+    public int NextRandomCard()
+    {
+        if (top >= cards.length) {
+            throw new IllegalStateException("No cards left in deck");
+        }
+        int randomPosition = top + random.nextInt(cards.length - top);
+        int card = cards[randomPosition];
+        cards[randomPosition] = cards[top];
+        cards[top++] = card;
+        remaining &= ~CardSet.Bit(card);
+        return card;
+    }
+
+    // Takes the specified card out of the remaining deck (used when a card is already known to be in a hand)
+    public void RemoveCard(int cardIndex)
+    {
+        if (!Contains(cardIndex)) {
+            throw new IllegalArgumentException("Card " + Card.Of(cardIndex) + " is not in the deck");
+        }
+        int position = top;
+        while (cards[position] != cardIndex)
+        {
+            position++;
+        }
+        cards[position] = cards[top];
+        cards[top++] = cardIndex;
+        remaining &= ~CardSet.Bit(cardIndex);
+    }
+
+    // Deal single card from top of deck to specified hand
+    public Hand DealCard(Hand hand)
+    {
+        long startTime = Metrics.Now();
+        // Cards are dealt from the top of the deck
+        hand.Add(NextCard());
+        if (Metrics.ENABLED) {
+            Metrics.DEAL_CARD.RecordSince(startTime);
+        }
+        return hand;
+    }
+
+    // Draw single card from top of deck and replace specified card (number) in specified hand
+    public Hand DrawCard(Hand hand, int drawCard) {
+        // Cards are dealt from the top of the deck, original card is discarded and the new
+        // card takes its place in the hand (zero-based)
+        long startTime = Metrics.Now();
+        hand.Replace(drawCard - 1, NextCard());
+        if (Metrics.ENABLED) {
+            Metrics.DRAW_CARD.RecordSince(startTime);
+        }
+        return hand;
+    }
+}
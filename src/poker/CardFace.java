@@ -0,0 +1,4 @@
+package poker;
+
+// Card faces, in ascending order of value
+enum CardFace { Two, Three, Four, Five, Six, Seven, Eight, Nine, Ten, Jack, Queen, King, Ace }
@@ -0,0 +1,165 @@
+package poker;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Immutable set of cards held in a single long - bit n is set when the card with card index n is in the set
+// Membership, union, intersection and removal are single bit operations, and because the card index is
+// suit * 13 + face, each suit's cards are a 13 bit face mask (see SuitMask).
+// Operations return a new CardSet - code that can't afford even that works on the long from Mask() directly.
+final class CardSet implements Iterable<Card> {
+    // Mask of all 52 cards
+    static final long FULL_MASK = (1L << CardDeck.NUM_CARDS) - 1;
+
+    // Mask of the jokers - the bits above the 52 cards
+    static final long JOKER_MASK = ((1L << CardDeck.MAX_JOKERS) - 1) << CardDeck.JOKER;
+
+    // Empty set and full deck
+    static final CardSet EMPTY = new CardSet(0);
+    static final CardSet FULL_DECK = new CardSet(FULL_MASK);
+
+    // Holds one bit per card
+    private final long mask;
+
+    // Constructor - creates a set from a mask of card indices
+    CardSet(long cardMask) {
+        if ((cardMask & ~(FULL_MASK | JOKER_MASK)) != 0) {
+            throw new IllegalArgumentException("Card mask has bits above card index " + (CardDeck.JOKER + CardDeck.MAX_JOKERS - 1));
+        }
+        mask = cardMask;
+    }
+
+    // Returns the set of the specified cards
+    static CardSet Of(Card... cards) {
+        long cardMask = 0;
+        for (Card card : cards) {
+            cardMask |= Bit(card.index);
+        }
+        return new CardSet(cardMask);
+    }
+
+    // Returns the set of the specified cards
+    static CardSet Of(Iterable<Card> cards) {
+        long cardMask = 0;
+        for (Card card : cards) {
+            cardMask |= Bit(card.index);
+        }
+        return new CardSet(cardMask);
+    }
+
+    // Returns the bit of a card index
+    static long Bit(int cardIndex) {
+        return 1L << cardIndex;
+    }
+
+    // Returns the 13 bit face mask of one suit (by CardSuit ordinal) of a card mask
+    static int SuitMask(long cardMask, int suit) {
+        return (int) (cardMask >>> (suit * HandEvaluator.NUM_FACES)) & 0x1FFF;
+    }
+
+    // Returns the mask of the cards in the set
+    long Mask() {
+        return mask;
+    }
+
+    // Returns the number of cards in the set
+    int Size() {
+        return Long.bitCount(mask);
+    }
+
+    boolean IsEmpty() {
+        return mask == 0;
+    }
+
+    boolean Contains(Card card) {
+        return (mask & Bit(card.index)) != 0;
+    }
+
+    boolean Contains(int cardIndex) {
+        return (mask & Bit(cardIndex)) != 0;
+    }
+
+    // Returns true if every card of the other set is in this one
+    boolean ContainsAll(CardSet other) {
+        return (other.mask & ~mask) == 0;
+    }
+
+    CardSet With(Card card) {
+        return new CardSet(mask | Bit(card.index));
+    }
+
+    CardSet Without(Card card) {
+        return new CardSet(mask & ~Bit(card.index));
+    }
+
+    CardSet Union(CardSet other) {
+        return new CardSet(mask | other.mask);
+    }
+
+    CardSet Intersect(CardSet other) {
+        return new CardSet(mask & other.mask);
+    }
+
+    CardSet Minus(CardSet other) {
+        return new CardSet(mask & ~other.mask);
+    }
+
+    // Returns the cards of one suit as a 13 bit face mask
+    int SuitMask(CardSuit suit) {
+        return SuitMask(mask, suit.ordinal());
+    }
+
+    // Returns the card with the lowest card index
+    Card First() {
+        if (mask == 0) {
+            throw new NoSuchElementException("Card set is empty");
+        }
+        return Card.Of(Long.numberOfTrailingZeros(mask));
+    }
+
+    // Returns the cards in ascending order of card index
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<Card>() {
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Card next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                Card card = Card.Of(Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+                return card;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CardSet && ((CardSet) other).mask == mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mask);
+    }
+
+    // Returns the card codes in ascending order of card index, for example "[2C 7D AS]"
+    @Override
+    public String toString() {
+        StringBuilder codes = new StringBuilder("[");
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            if (codes.length() > 1) {
+                codes.append(' ');
+            }
+            codes.append(CardCodes.Code(Card.Of(Long.numberOfTrailingZeros(remaining))));
+        }
+        return codes.append(']').toString();
+    }
+}
@@ -0,0 +1,4 @@
+package poker;
+
+// Card suits in alpha order
+enum CardSuit { Club, Diamond, Heart, Spade }
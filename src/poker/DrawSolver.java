@@ -0,0 +1,220 @@
+package poker;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Optimal draw solver for a five card hand
+// Scores all 32 hold/discard choices by enumerating every replacement from the 47 unseen cards and
+// counting the HandRank of each resulting hand (2,598,960 hands in total per solve). Hands are first
+// reduced to their suit-isomorphic canonical form and solved counts are kept in a bounded LRU cache,
+// so a hand that is the same as an earlier one up to suits is answered without enumerating again.
+final class DrawSolver {
+    // Number of hold choices for a five card hand
+    static final int NUM_HOLDS = 32;
+
+    // Number of solved canonical hands kept by default (each entry holds 32 x 11 counts)
+    static final int DEFAULT_CACHE_SIZE = 4096;
+
+    // Number of cards not in the hand
+    private static final int NUM_UNSEEN = HandEvaluator.NUM_CARDS - 5;
+
+    // Cached enum values - values() clones its array on every call
+    private static final HandRank[] RANKS = HandRank.values();
+
+    // Rank distribution of every hold choice for one hand
+    // A hold mask has bit n set when card number n+1 is kept (0 = discard everything, 31 = stand pat)
+    static final class Solution {
+        // Holds the number of draws ending in each rank, per hold mask then HandRank ordinal
+        private final long[][] rankCounts;
+
+        Solution(long[][] counts) {
+            rankCounts = counts;
+        }
+
+        // Returns the number of possible draws for a hold mask
+        long Draws(int holdMask) {
+            long draws = 0;
+            for (long count : rankCounts[holdMask]) {
+                draws += count;
+            }
+            return draws;
+        }
+
+        // Returns the probability of finishing with the specified rank after the hold
+        double Probability(int holdMask, HandRank rank) {
+            return (double) rankCounts[holdMask][rank.ordinal()] / Draws(holdMask);
+        }
+
+        // Returns the expected HandRank ordinal after the hold
+        double ExpectedRank(int holdMask) {
+            double total = 0;
+            for (int rank = 0; rank < RANKS.length; rank++) {
+                total += (double) rank * rankCounts[holdMask][rank];
+            }
+            return total / Draws(holdMask);
+        }
+
+        // Returns the hold mask with the highest expected rank (standing pat wins ties)
+        int BestHold() {
+            int bestHold = NUM_HOLDS - 1;
+            double bestExpected = ExpectedRank(bestHold);
+            for (int holdMask = NUM_HOLDS - 2; holdMask >= 0; holdMask--) {
+                double expected = ExpectedRank(holdMask);
+                if (expected > bestExpected) {
+                    bestExpected = expected;
+                    bestHold = holdMask;
+                }
+            }
+            return bestHold;
+        }
+
+        // Returns the discard mask (bit n set means card number n+1 is drawn) for a hold mask
+        static int DiscardMask(int holdMask) {
+            return ~holdMask & (NUM_HOLDS - 1);
+        }
+
+        // Returns the card numbers (1-5) of a mask separated by commas, or "none"
+        static String CardNumbers(int mask) {
+            StringBuilder numbers = new StringBuilder();
+            for (int numCard = 0; numCard < 5; numCard++) {
+                if ((mask & (1 << numCard)) != 0) {
+                    numbers.append(numbers.length() > 0 ? "," : "").append(numCard + 1);
+                }
+            }
+            return numbers.length() > 0 ? numbers.toString() : "none";
+        }
+    }
+
+    // Holds solved counts per canonical key, least recently used entries are dropped first
+    private final Map<Long, long[][]> cache;
+
+    // Constructor - creates a solver with the default cache size
+    DrawSolver() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    // Constructor - creates a solver that keeps at most maxEntries solved hands
+    DrawSolver(int maxEntries) {
+        cache = Collections.synchronizedMap(new LinkedHashMap<Long, long[][]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[][]> eldest) {
+                return size() > maxEntries;
+            }});
+    }
+
+    // Solves a five card hand
+    Solution Solve(List<Card> cards) {
+        if (cards.size() != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be solved, found " + cards.size());
+        }
+        int[] hand = new int[5];
+        for (int numCard = 0; numCard < 5; numCard++) {
+            hand[numCard] = HandEvaluator.CardIndex(cards.get(numCard));
+        }
+        return Solve(hand);
+    }
+
+    // Solves a five card hand given as card indices - hold masks of the solution refer to positions in this array
+    Solution Solve(int[] hand) {
+        if (hand.length != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be solved, found " + hand.length);
+        }
+        for (int card : hand) {
+            if (card < 0 || card >= CardDeck.NUM_CARDS) {
+                throw new IllegalArgumentException("Draws are only solved for the standard 52 card deck, found card index " + card);
+            }
+        }
+        int[] canonicalCards = new int[5];
+        long key = SuitCanonicalizer.Canonicalize(hand, canonicalCards);
+        if (Long.bitCount(key) != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 distinct cards");
+        }
+        long[][] counts = cache.get(key);
+        if (counts == null) {
+            counts = Enumerate(SuitCanonicalizer.Cards(key));
+            cache.put(key, counts);
+        }
+
+        // Cached counts are held per hold mask over the canonical cards in ascending order - map each
+        // position of the hand to its place in that order and translate every hold mask
+        int[] sortedPosition = new int[5];
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 5; j++) {
+                if (canonicalCards[j] < canonicalCards[i]) {
+                    sortedPosition[i]++;
+                }
+            }
+        }
+        long[][] handCounts = new long[NUM_HOLDS][];
+        for (int holdMask = 0; holdMask < NUM_HOLDS; holdMask++) {
+            int canonicalHold = 0;
+            for (int numCard = 0; numCard < 5; numCard++) {
+                if ((holdMask & (1 << numCard)) != 0) {
+                    canonicalHold |= 1 << sortedPosition[numCard];
+                }
+            }
+            handCounts[holdMask] = counts[canonicalHold];
+        }
+        return new Solution(handCounts);
+    }
+
+    // Returns the number of solved hands currently cached
+    int CacheSize() {
+        return cache.size();
+    }
+
+    // Enumerates every draw for every hold mask of five cards and counts the resulting ranks
+    private static long[][] Enumerate(int[] cards) {
+        long handMask = 0;
+        for (int card : cards) {
+            handMask |= 1L << card;
+        }
+        int[] unseen = new int[NUM_UNSEEN];
+        int numUnseen = 0;
+        for (int card = 0; card < HandEvaluator.NUM_CARDS; card++) {
+            if ((handMask & (1L << card)) == 0) {
+                unseen[numUnseen++] = card;
+            }
+        }
+
+        long[][] counts = new long[NUM_HOLDS][RANKS.length];
+        int[] hand = new int[5];
+        int[] combination = new int[5];
+        for (int holdMask = 0; holdMask < NUM_HOLDS; holdMask++) {
+            // Held cards fill the first positions, drawn cards the rest
+            int numHeld = 0;
+            for (int numCard = 0; numCard < 5; numCard++) {
+                if ((holdMask & (1 << numCard)) != 0) {
+                    hand[numHeld++] = cards[numCard];
+                }
+            }
+            int numDrawn = 5 - numHeld;
+            for (int i = 0; i < numDrawn; i++) {
+                combination[i] = i;
+            }
+            long[] holdCounts = counts[holdMask];
+            while (true) {
+                for (int i = 0; i < numDrawn; i++) {
+                    hand[numHeld + i] = unseen[combination[i]];
+                }
+                holdCounts[HandEvaluator.Evaluate(hand[0], hand[1], hand[2], hand[3], hand[4]) >>> HandEvaluator.RANK_SHIFT]++;
+
+                // Move to the next combination of unseen cards in ascending order
+                int i = numDrawn - 1;
+                while (i >= 0 && combination[i] == NUM_UNSEEN - numDrawn + i) {
+                    i--;
+                }
+                if (i < 0) {
+                    break;
+                }
+                combination[i]++;
+                for (int j = i + 1; j < numDrawn; j++) {
+                    combination[j] = combination[j - 1] + 1;
+                }
+            }
+        }
+        return counts;
+    }
+}
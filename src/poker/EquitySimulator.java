@@ -0,0 +1,258 @@
+package poker;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Monte Carlo equity simulator
+// Each player has zero to five known cards (the rest of their hand is unknown) and an optional set of
+// cards to discard at the draw. Every trial deals random cards for everything that is unknown, ranks
+// the hands and tallies who won, tied or lost. Trials are split across all cores - each worker has its
+// own CardDeck, random number generator and tallies, which are only merged once the workers finish.
+final class EquitySimulator {
+    // Number of trials a worker runs between checks of the time budget
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    // z value for a 95% confidence interval
+    private static final double Z_95 = 1.959964;
+
+    private EquitySimulator() {}
+
+    // Results of a simulation - per player tallies (player 0 is player number 1)
+    static final class Result {
+        // Number of trials run
+        final long trials;
+
+        // Number of trials each player won outright, shared the best hand or lost
+        final long[] wins;
+        final long[] ties;
+        final long[] losses;
+
+        // Sum (and sum of squares) of each player's share of the pot per trial - a tie between
+        // n players is worth 1/n to each of them
+        final double[] equitySum;
+        final double[] equitySquares;
+
+        Result(long numTrials, long[] numWins, long[] numTies, long[] numLosses, double[] sum, double[] squares) {
+            trials = numTrials;
+            wins = numWins;
+            ties = numTies;
+            losses = numLosses;
+            equitySum = sum;
+            equitySquares = squares;
+        }
+
+        // Probabilities, equities and intervals are 0 when no trials ran (the time budget ran out first)
+        double WinProbability(int player) {
+            return PerTrial(wins[player]);
+        }
+
+        double TieProbability(int player) {
+            return PerTrial(ties[player]);
+        }
+
+        double LossProbability(int player) {
+            return PerTrial(losses[player]);
+        }
+
+        // Returns the player's expected share of the pot
+        double Equity(int player) {
+            return PerTrial(equitySum[player]);
+        }
+
+        private double PerTrial(double total) {
+            return trials > 0 ? total / trials : 0;
+        }
+
+        // Returns the 95% confidence interval of the player's win probability as { low, high }
+        double[] WinInterval(int player) {
+            if (trials == 0) {
+                return new double[] { 0, 0 };
+            }
+            double probability = WinProbability(player);
+            double halfWidth = Z_95 * Math.sqrt(probability * (1 - probability) / trials);
+            return new double[] { Math.max(0, probability - halfWidth), Math.min(1, probability + halfWidth) };
+        }
+
+        // Returns the 95% confidence interval of the player's equity as { low, high }
+        double[] EquityInterval(int player) {
+            if (trials == 0) {
+                return new double[] { 0, 0 };
+            }
+            double mean = Equity(player);
+            double variance = Math.max(0, equitySquares[player] / trials - mean * mean);
+            double halfWidth = Z_95 * Math.sqrt(variance / trials);
+            return new double[] { Math.max(0, mean - halfWidth), Math.min(1, mean + halfWidth) };
+        }
+
+        // Returns one line per player with win, tie and loss probabilities and equity with its interval
+        String Report() {
+            StringBuilder report = new StringBuilder();
+            report.append("Trials: ").append(trials).append('\n');
+            for (int player = 0; player < wins.length; player++) {
+                double[] interval = EquityInterval(player);
+                report.append(String.format("Player %d: win %.4f, tie %.4f, loss %.4f, equity %.4f (95%% %.4f - %.4f)%n",
+                        player + 1, WinProbability(player), TieProbability(player), LossProbability(player),
+                        Equity(player), interval[0], interval[1]));
+            }
+            return report.toString();
+        }
+
+        // Returns a result holding the tallies of this result and another one
+        Result Merge(Result other) {
+            int numPlayers = wins.length;
+            long[] mergedWins = new long[numPlayers];
+            long[] mergedTies = new long[numPlayers];
+            long[] mergedLosses = new long[numPlayers];
+            double[] mergedSum = new double[numPlayers];
+            double[] mergedSquares = new double[numPlayers];
+            for (int player = 0; player < numPlayers; player++) {
+                mergedWins[player] = wins[player] + other.wins[player];
+                mergedTies[player] = ties[player] + other.ties[player];
+                mergedLosses[player] = losses[player] + other.losses[player];
+                mergedSum[player] = equitySum[player] + other.equitySum[player];
+                mergedSquares[player] = equitySquares[player] + other.equitySquares[player];
+            }
+            return new Result(trials + other.trials, mergedWins, mergedTies, mergedLosses, mergedSum, mergedSquares);
+        }
+    }
+
+    // Returns the known cards of each hand as card indices, for passing to Simulate
+    static int[][] KnownCards(List<Hand> hands) {
+        int[][] knownCards = new int[hands.size()][];
+        for (int numHand = 0; numHand < hands.size(); numHand++) {
+            Hand hand = hands.get(numHand);
+            knownCards[numHand] = new int[hand.Size()];
+            for (int numCard = 0; numCard < hand.Size(); numCard++) {
+                knownCards[numHand][numCard] = hand.CardIndex(numCard);
+            }
+        }
+        return knownCards;
+    }
+
+    // Runs the simulation until maxTrials trials have run or maxTime has passed, whichever comes first
+    // knownCards - per player, the card indices already known to be in that hand (fewer than 5 means
+    //              the remaining cards are unknown and dealt at random)
+    // discardMasks - per player, bit n set means card number n+1 is discarded at the draw (null for no draw)
+    // seed - seeds the random number generators of all workers
+    static Result Simulate(int[][] knownCards, int[] discardMasks, long maxTrials, Duration maxTime, long seed) {
+        int numPlayers = knownCards.length;
+        if (numPlayers < 2) {
+            throw new IllegalArgumentException("At least 2 players are needed");
+        }
+        if (maxTrials <= 0) {
+            throw new IllegalArgumentException("Number of trials must be at least 1");
+        }
+        if (discardMasks != null && discardMasks.length != numPlayers) {
+            throw new IllegalArgumentException("Need one discard mask per player");
+        }
+        int cardsNeeded = 0;
+        long knownMask = 0;
+        for (int player = 0; player < numPlayers; player++) {
+            if (knownCards[player].length > 5) {
+                throw new IllegalArgumentException("Player " + (player + 1) + " has more than 5 cards");
+            }
+            for (int card : knownCards[player]) {
+                if (card < 0 || card >= CardDeck.NUM_CARDS) {
+                    throw new IllegalArgumentException("Equity is only simulated for the standard 52 card deck, found card index " + card);
+                }
+                if ((knownMask & (1L << card)) != 0) {
+                    throw new IllegalArgumentException("Card index " + card + " is in more than one hand");
+                }
+                knownMask |= 1L << card;
+            }
+            cardsNeeded += 5 + (discardMasks != null ? Integer.bitCount(discardMasks[player] & 0x1F) : 0);
+        }
+        if (cardsNeeded > CardDeck.NUM_CARDS) {
+            throw new IllegalArgumentException("Deal and draw need " + cardsNeeded + " cards, deck only has " + CardDeck.NUM_CARDS);
+        }
+
+        // Split the trials between workers, each with its own random number generator split from
+        // the seed up front so results don't depend on thread scheduling when only trials are limited
+        int numWorkers = Runtime.getRuntime().availableProcessors();
+        SplittableRandom seedRandom = new SplittableRandom(seed);
+        SplittableRandom[] workerRandoms = new SplittableRandom[numWorkers];
+        for (int worker = 0; worker < numWorkers; worker++) {
+            workerRandoms[worker] = seedRandom.split();
+        }
+        long deadline = maxTime != null ? System.nanoTime() + maxTime.toNanos() : Long.MAX_VALUE;
+
+        return IntStream.range(0, numWorkers).parallel()
+                .mapToObj(worker -> RunWorker(knownCards, discardMasks, maxTrials / numWorkers + (worker < maxTrials % numWorkers ? 1 : 0),
+                        deadline, workerRandoms[worker]))
+                .reduce(Result::Merge)
+                .get();
+    }
+
+    // Runs trials for a single worker - everything it touches is local to the worker
+    private static Result RunWorker(int[][] knownCards, int[] discardMasks, long maxTrials, long deadline, SplittableRandom random) {
+        int numPlayers = knownCards.length;
+        long[] wins = new long[numPlayers];
+        long[] ties = new long[numPlayers];
+        long[] losses = new long[numPlayers];
+        double[] equitySum = new double[numPlayers];
+        double[] equitySquares = new double[numPlayers];
+        int[] hand = new int[5];
+        int[] strengths = new int[numPlayers];
+
+        // Known cards are taken out of the deck once - they stay below the base position for every trial
+        CardDeck deck = new CardDeck(random);
+        for (int[] playerCards : knownCards) {
+            for (int card : playerCards) {
+                deck.RemoveCard(card);
+            }
+        }
+        int baseTop = deck.Top();
+
+        long trials = 0;
+        while (trials < maxTrials) {
+            if (trials % TIME_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) {
+                break;
+            }
+            // Put every card dealt in the last trial back in the deck
+            deck.Rewind(baseTop);
+
+            int bestStrength = -1;
+            int numBest = 0;
+            for (int player = 0; player < numPlayers; player++) {
+                int[] playerCards = knownCards[player];
+                for (int numCard = 0; numCard < 5; numCard++) {
+                    hand[numCard] = numCard < playerCards.length ? playerCards[numCard] : deck.NextRandomCard();
+                }
+                if (discardMasks != null) {
+                    for (int discards = discardMasks[player] & 0x1F; discards != 0; discards &= discards - 1) {
+                        hand[Integer.numberOfTrailingZeros(discards)] = deck.NextRandomCard();
+                    }
+                }
+                int strength = HandEvaluator.Evaluate(hand[0], hand[1], hand[2], hand[3], hand[4]);
+                strengths[player] = strength;
+                if (strength > bestStrength) {
+                    bestStrength = strength;
+                    numBest = 1;
+                }
+                else if (strength == bestStrength) {
+                    numBest++;
+                }
+            }
+
+            double share = 1.0 / numBest;
+            for (int player = 0; player < numPlayers; player++) {
+                if (strengths[player] != bestStrength) {
+                    losses[player]++;
+                    continue;
+                }
+                if (numBest == 1) {
+                    wins[player]++;
+                }
+                else {
+                    ties[player]++;
+                }
+                equitySum[player] += share;
+                equitySquares[player] += share * share;
+            }
+            trials++;
+        }
+        return new Result(trials, wins, ties, losses, equitySum, equitySquares);
+    }
+}
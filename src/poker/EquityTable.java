@@ -0,0 +1,290 @@
+package poker;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Precomputed showdown odds of every five card hand against 1 to 6 random opponents
+// Hands that only differ by renaming suits have the same odds, so the table holds one entry per
+// suit-canonical class (see SuitCanonicalizer) - 134,459 classes instead of 2,598,960 hands. Each entry
+// has the probability of winning outright and of tying for the best hand against each number of
+// opponents, each holding five random cards from the rest of the deck (no draw).
+// The table is built offline by a parallel Monte Carlo job and written to a binary file, which is
+// memory mapped when loaded. A lookup canonicalizes the hand and binary searches the sorted class keys,
+// so answering costs a few dozen instructions instead of a simulation.
+//
+// File layout (little-endian): header, then the class keys (one long each, ascending), then for each
+// class and each number of opponents from 1 up, the win and tie probabilities as unsigned 16 bit fractions
+final class EquityTable {
+    // Number of suit-canonical five card hand classes
+    static final int NUM_CLASSES = 134459;
+
+    // Largest number of opponents in the table
+    static final int MAX_OPPONENTS = 6;
+
+    // Default number of trials simulated per class
+    static final int DEFAULT_TRIALS = 10000;
+
+    // File header - magic, version, number of classes, max opponents, trials per class, reserved, seed
+    private static final int MAGIC = 0x504B4551; // "PKEQ"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    // Bytes of probabilities per class - a win and a tie fraction for each number of opponents
+    private static final int CLASS_BYTES = 4 * MAX_OPPONENTS;
+
+    // Scale of the stored fractions
+    private static final double FRACTION_SCALE = 65535.0;
+
+    // Holds the mapped class keys and probabilities
+    private final LongBuffer keys;
+    private final CharBuffer fractions;
+
+    // Holds the number of trials each class was simulated with
+    private final int trials;
+
+    private EquityTable(LongBuffer tableKeys, CharBuffer tableFractions, int tableTrials) {
+        keys = tableKeys;
+        fractions = tableFractions;
+        trials = tableTrials;
+    }
+
+    // Returns the number of trials each class was simulated with
+    int Trials() {
+        return trials;
+    }
+
+    // Returns the class index of five card indices, or -1 if they aren't five distinct cards
+    int ClassIndex(int[] cards) {
+        if (cards.length != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards, found " + cards.length);
+        }
+        return ClassIndex(SuitCanonicalizer.Canonicalize(cards, null));
+    }
+
+    // Returns the class index of a canonical key, or -1 if it isn't in the table
+    int ClassIndex(long canonicalKey) {
+        int low = 0;
+        int high = NUM_CLASSES - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long key = keys.get(middle);
+            if (key < canonicalKey) {
+                low = middle + 1;
+            }
+            else if (key > canonicalKey) {
+                high = middle - 1;
+            }
+            else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    // Returns the probability that five card indices win outright against a number of random opponents
+    double WinProbability(int[] cards, int numOpponents) {
+        return Fraction(cards, numOpponents, 0);
+    }
+
+    // Returns the probability that five card indices tie for the best hand against a number of random opponents
+    double TieProbability(int[] cards, int numOpponents) {
+        return Fraction(cards, numOpponents, 1);
+    }
+
+    // Returns the probability that a five card hand wins outright against a number of random opponents
+    double WinProbability(Hand hand, int numOpponents) {
+        return WinProbability(CardIndices(hand.cards), numOpponents);
+    }
+
+    // Returns the probability that a five card hand ties for the best hand against a number of random opponents
+    double TieProbability(Hand hand, int numOpponents) {
+        return TieProbability(CardIndices(hand.cards), numOpponents);
+    }
+
+    private static int[] CardIndices(List<Card> cards) {
+        int[] cardIndices = new int[cards.size()];
+        for (int numCard = 0; numCard < cardIndices.length; numCard++) {
+            cardIndices[numCard] = cards.get(numCard).index;
+        }
+        return cardIndices;
+    }
+
+    private double Fraction(int[] cards, int numOpponents, int tie) {
+        if (numOpponents < 1 || numOpponents > MAX_OPPONENTS) {
+            throw new IllegalArgumentException("Number of opponents must be 1-" + MAX_OPPONENTS);
+        }
+        int classIndex = ClassIndex(cards);
+        if (classIndex < 0) {
+            throw new IllegalArgumentException("Hand must hold 5 distinct cards");
+        }
+        return fractions.get(classIndex * (CLASS_BYTES / 2) + (numOpponents - 1) * 2 + tie) / FRACTION_SCALE;
+    }
+
+    // Maps a previously built table file read-only
+    static EquityTable Load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_BYTES + (8L + CLASS_BYTES) * NUM_CLASSES) {
+                throw new IOException("Not an equity table (unexpected size): " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != NUM_CLASSES
+                    || buffer.getInt(12) != MAX_OPPONENTS) {
+                throw new IOException("Not an equity table (bad header): " + path);
+            }
+            int trials = buffer.getInt(16);
+            buffer.position(HEADER_BYTES);
+            LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            keys.limit(NUM_CLASSES);
+            buffer.position(HEADER_BYTES + 8 * NUM_CLASSES);
+            CharBuffer fractions = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asCharBuffer();
+            return new EquityTable(keys, fractions, trials);
+        }
+    }
+
+    // Returns the canonical keys of every five card hand class in ascending order
+    static long[] ClassKeys() {
+        long[] keys = new long[HandLookupTable.NUM_HANDS];
+        int numKeys = 0;
+        int[] cards = new int[5];
+        for (cards[4] = 4; cards[4] < HandEvaluator.NUM_CARDS; cards[4]++) {
+            for (cards[3] = 3; cards[3] < cards[4]; cards[3]++) {
+                for (cards[2] = 2; cards[2] < cards[3]; cards[2]++) {
+                    for (cards[1] = 1; cards[1] < cards[2]; cards[1]++) {
+                        for (cards[0] = 0; cards[0] < cards[1]; cards[0]++) {
+                            keys[numKeys++] = SuitCanonicalizer.Canonicalize(cards, null);
+                        }
+                    }
+                }
+            }
+        }
+        Arrays.sort(keys);
+        int numClasses = 0;
+        for (int key = 0; key < keys.length; key++) {
+            if (key == 0 || keys[key] != keys[key - 1]) {
+                keys[numClasses++] = keys[key];
+            }
+        }
+        if (numClasses != NUM_CLASSES) {
+            throw new IllegalStateException("Found " + numClasses + " hand classes, expected " + NUM_CLASSES);
+        }
+        return Arrays.copyOf(keys, numClasses);
+    }
+
+    // Simulates one class - plays the canonical hand against MAX_OPPONENTS random hands per trial and
+    // counts wins and ties against the first 1, 2, ... MAX_OPPONENTS of them
+    // Returns the win and tie counts for each number of opponents, in file order
+    static long[] SimulateClass(long classKey, int numTrials, long seed) {
+        int[] hand = SuitCanonicalizer.Cards(classKey);
+        int strength = HandEvaluator.Evaluate(hand[0], hand[1], hand[2], hand[3], hand[4]);
+        CardDeck deck = new CardDeck(seed);
+        long[] counts = new long[2 * MAX_OPPONENTS];
+        for (int trial = 0; trial < numTrials; trial++) {
+            deck.Reset();
+            for (int card : hand) {
+                deck.RemoveCard(card);
+            }
+            int bestOpponent = -1;
+            for (int opponent = 0; opponent < MAX_OPPONENTS; opponent++) {
+                int opponentStrength = HandEvaluator.Evaluate(deck.NextRandomCard(), deck.NextRandomCard(),
+                        deck.NextRandomCard(), deck.NextRandomCard(), deck.NextRandomCard());
+                bestOpponent = Math.max(bestOpponent, opponentStrength);
+                if (strength > bestOpponent) {
+                    counts[2 * opponent]++;
+                }
+                else if (strength == bestOpponent) {
+                    counts[2 * opponent + 1]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    // Simulates every class in parallel and writes the table to the specified file
+    // Each class gets its own seed (derived from the class and the build seed), so the table doesn't
+    // depend on how the classes were spread over threads. The table is written to a temporary file first
+    // so a failed build never leaves a bad table behind
+    static void Build(Path path, int numTrials, long seed) throws IOException {
+        long[] classKeys = ClassKeys();
+        Path absolutePath = path.toAbsolutePath();
+        Path tempPath = Files.createTempFile(absolutePath.getParent(), "equity", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (8L + CLASS_BYTES) * NUM_CLASSES);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, NUM_CLASSES);
+                buffer.putInt(12, MAX_OPPONENTS);
+                buffer.putInt(16, numTrials);
+                buffer.putLong(24, seed);
+                for (int classIndex = 0; classIndex < NUM_CLASSES; classIndex++) {
+                    buffer.putLong(HEADER_BYTES + 8 * classIndex, classKeys[classIndex]);
+                }
+                // Classes are independent and each writes only its own slot
+                int fractionsStart = HEADER_BYTES + 8 * NUM_CLASSES;
+                IntStream.range(0, NUM_CLASSES).parallel().forEach(classIndex -> {
+                    long[] counts = SimulateClass(classKeys[classIndex], numTrials, seed ^ (classKeys[classIndex] * 0x9E3779B97F4A7C15L));
+                    for (int count = 0; count < counts.length; count++) {
+                        char fraction = (char) Math.round(counts[count] * FRACTION_SCALE / numTrials);
+                        buffer.putChar(fractionsStart + classIndex * CLASS_BYTES + 2 * count, fraction);
+                    }
+                });
+                buffer.force();
+            }
+            Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    // Builds the table file or looks up a hand in it
+    //   EquityTable build [file] [trials per class] [seed]
+    //   EquityTable <file> <five card codes, for example AS KD 7H 7C 2D>
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].equals("build")) {
+            Path path = Paths.get(args.length > 1 ? args[1] : "equity.tbl");
+            int numTrials = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TRIALS;
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+            long startTime = System.nanoTime();
+            Build(path, numTrials, seed);
+            System.out.println("Built " + NUM_CLASSES + " hand classes x " + numTrials + " trials into " + path + " in "
+                    + (System.nanoTime() - startTime) / 1000000 + " ms");
+            return;
+        }
+
+        EquityTable table = Load(Paths.get(args[0]));
+        if (args.length != 6) {
+            System.err.println("Usage: EquityTable <file> <five card codes>");
+            System.exit(2);
+        }
+        int[] cards = new int[5];
+        for (int numCard = 0; numCard < 5; numCard++) {
+            cards[numCard] = CardCodes.Parse(args[numCard + 1], 0);
+            if (cards[numCard] < 0) {
+                System.err.println("Not a card code: " + args[numCard + 1]);
+                System.exit(2);
+            }
+        }
+        System.out.println(String.format("%-10s %8s %8s", "Opponents", "Win", "Tie"));
+        for (int numOpponents = 1; numOpponents <= MAX_OPPONENTS; numOpponents++) {
+            System.out.println(String.format("%-10d %7.2f%% %7.2f%%", numOpponents,
+                    100 * table.WinProbability(cards, numOpponents), 100 * table.TieProbability(cards, numOpponents)));
+        }
+        System.out.println("(" + table.Trials() + " trials per hand class)");
+    }
+}
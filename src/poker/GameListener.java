@@ -0,0 +1,23 @@
+package poker;
+
+import java.util.List;
+
+// Receives the events of a PokerGame as it moves through its stages - every method does nothing by default
+// Hands passed to a listener are owned by the game and are reused for the next game
+interface GameListener {
+    // Called when a game starts - gameNumber counts the games played by the engine, seed is the deck's seed
+    // (only identifies this game on its own if the deck was reseeded for it, see PokerGame.Play(long))
+    default void GameStarted(long gameNumber, long seed) {}
+
+    // Called when the game enters a stage (Deal, Draw, Score or End)
+    default void StageStarted(GameStage stage) {}
+
+    // Called once every hand holds 5 cards - PokerGame.Snapshot can be taken from here on
+    default void HandsDealt(List<Hand> hands) {}
+
+    // Called after a player has drawn - discardMask holds the card numbers that were replaced (bit n = card n+1)
+    default void CardsDrawn(Hand hand, int discardMask) {}
+
+    // Called once every hand is ranked - winnerMask holds the players that share the pot (bit n = player n+1)
+    default void HandsScored(List<Hand> hands, int winnerMask) {}
+}
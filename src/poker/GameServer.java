@@ -0,0 +1,355 @@
+package poker;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Multi-table five card draw server on a local TCP line protocol
+// Every connection and every table runs on its own thread - virtual threads when the JVM has them (see
+// VirtualThreads) - so blocking reads never tie up a platform thread per player. Each table runs the
+// PokerGame engine with its own CardDeck on the table's thread, and all game state stays confined to that
+// thread: connection threads only parse lines and hand draw decisions to the table through a queue.
+//
+// Protocol - one command or message per line:
+//   client: JOIN <table>       sit at a table (created on first join) - games start once every seat is taken
+//   server: SEAT <seat>        seat number (1 - players per table)
+//   server: HAND <cards>       a new game was dealt, for example "HAND AS KD 7H 7C 2D"
+//   client: DRAW [numbers]     card numbers to draw separated by commas, for example "DRAW 1,3" (blank for none) -
+//                              one per HAND, any other DRAW is answered "ERROR not your turn" - a player who
+//                              doesn't draw within DRAW_TIMEOUT_SECONDS stands pat
+//   server: DRAWN <cards>      the hand after the draw
+//   server: RESULT <WIN|SPLIT|LOSE> <rank> <cards>  showdown result - the next HAND follows straight away
+//   client: QUIT               leave - the table closes once the current game ends
+//   server: CLOSED             the table closed because a player left
+//   server: ERROR <message>    the last command was not accepted
+final class GameServer {
+    // Default port and number of players per table
+    static final int DEFAULT_PORT = 7777;
+    static final int DEFAULT_PLAYERS = 2;
+
+    // Seconds a player has to send a DRAW before standing pat
+    static final long DRAW_TIMEOUT_SECONDS = 60;
+
+    // Draw decision queued when a player leaves
+    private static final int LEFT = -1;
+
+    // Holds the open tables by name
+    private final ConcurrentHashMap<String, Table> tables = new ConcurrentHashMap<String, Table>();
+
+    // Holds the number of players at each table
+    private final int playersPerTable;
+
+    // Runs every connection and table
+    private final ExecutorService executor = VirtualThreads.NewPerTaskExecutor();
+
+    // Holds the number of games completed across all tables
+    private final AtomicLong gamesPlayed = new AtomicLong();
+
+    // Constructor - creates a server whose tables seat the specified number of players
+    GameServer(int numPlayers) {
+        if (numPlayers < 2 || 5 * numPlayers > CardDeck.NUM_CARDS) {
+            throw new IllegalArgumentException("Number of players must be 2-" + CardDeck.NUM_CARDS / 5);
+        }
+        playersPerTable = numPlayers;
+    }
+
+    // Returns the number of games completed across all tables
+    long GamesPlayed() {
+        return gamesPlayed.get();
+    }
+
+    // Accepts connections on the loopback address until the server socket is closed
+    void Serve(ServerSocket serverSocket) throws IOException {
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(new Connection(socket));
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // One player connection - reads commands on its own thread
+    private final class Connection implements Runnable {
+        private final Socket socket;
+        private final BufferedWriter writer;
+
+        // Holds draw masks sent by the player until the table asks for them
+        final BlockingQueue<Integer> draws = new LinkedBlockingQueue<Integer>();
+
+        // Set by the table before it sends a HAND, cleared by the player's DRAW for that hand - a DRAW sent at
+        // any other time would be taken as the draw of a later game
+        final AtomicBoolean drawDue = new AtomicBoolean();
+
+        // Set when the player has quit or the connection has dropped
+        volatile boolean left = false;
+
+        // Holds the table the player sits at (null until joined)
+        private Table table;
+
+        Connection(Socket connectionSocket) throws IOException {
+            socket = connectionSocket;
+            writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+        }
+
+        // Sends a line to the player - called from the connection and table threads
+        synchronized void Send(String line) {
+            try {
+                writer.write(line);
+                writer.write('\n');
+                writer.flush();
+            }
+            catch (IOException e) {
+                Close(); // Player is gone - the read loop ends and the table is told
+            }
+        }
+
+        void Close() {
+            try {
+                socket.close();
+            }
+            catch (IOException e) {}
+        }
+
+        @Override
+        public void run() {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.startsWith("JOIN ")) {
+                        Join(line.substring(5).trim());
+                    }
+                    else if (line.equals("DRAW") || line.startsWith("DRAW ")) {
+                        int drawMask = ParseDraw(line.substring(4));
+                        if (table == null || drawMask < 0) {
+                            Send(table == null ? "ERROR not seated" : "ERROR card numbers must be 1-5");
+                        }
+                        else if (!drawDue.compareAndSet(true, false)) {
+                            Send("ERROR not your turn");
+                        }
+                        else {
+                            draws.add(drawMask);
+                        }
+                    }
+                    else if (line.equals("QUIT")) {
+                        break;
+                    }
+                    else {
+                        Send("ERROR unknown command");
+                    }
+                }
+            }
+            catch (IOException e) {}
+            finally {
+                left = true;
+                draws.add(LEFT);
+                if (table != null) {
+                    table.Leave(this);
+                }
+                Close();
+            }
+        }
+
+        private void Join(String tableName) {
+            if (table != null) {
+                Send("ERROR already seated");
+                return;
+            }
+            // Seating is done under the table's lock - a table that has already closed is replaced by a new one
+            while (true) {
+                Table joinTable = tables.computeIfAbsent(tableName, name -> new Table(name));
+                int seat = joinTable.Seat(this);
+                if (seat > 0) {
+                    table = joinTable;
+                    return;
+                }
+                if (seat == 0) {
+                    Send("ERROR table " + tableName + " is full");
+                    return;
+                }
+                tables.remove(tableName, joinTable);
+            }
+        }
+    }
+
+    // Returns the draw mask of the card numbers after DRAW, or -1 if a number isn't 1-5
+    private static int ParseDraw(String numbers) {
+        int drawMask = 0;
+        for (String number : numbers.split(",")) {
+            number = number.trim();
+            if (number.isEmpty()) {
+                continue;
+            }
+            try {
+                int drawCard = Integer.parseInt(number);
+                if (drawCard < 1 || drawCard > 5) {
+                    return -1;
+                }
+                drawMask |= 1 << (drawCard - 1);
+            }
+            catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return drawMask;
+    }
+
+    // One table - plays games on its own thread while every seat is taken
+    private final class Table implements Runnable, PlayerStrategy, GameListener {
+        private final String name;
+        // Holds the player in each seat - a player who leaves before the start leaves a hole for the next to join,
+        // so everyone keeps the seat number they were sent
+        private final Connection[] seats = new Connection[playersPerTable];
+        private int numSeated = 0;
+
+        // Set once the table can't seat anyone else (started, or closed)
+        private boolean started = false;
+
+        // Set when a player leaves a started table - the table closes after the current game
+        private volatile boolean closing = false;
+
+        Table(String tableName) {
+            name = tableName;
+        }
+
+        // Seats a player and returns the seat number, 0 if the table is full or -1 if it has closed
+        synchronized int Seat(Connection connection) {
+            if (started) {
+                return closing ? -1 : 0;
+            }
+            int seat = 0;
+            while (seats[seat] != null) {
+                seat++;
+            }
+            seats[seat] = connection;
+            numSeated++;
+            connection.Send("SEAT " + (seat + 1));
+            if (numSeated == seats.length) {
+                started = true;
+                executor.execute(this);
+            }
+            return seat + 1;
+        }
+
+        @Override
+        public void run() {
+            PlayerStrategy[] strategies = new PlayerStrategy[seats.length];
+            Arrays.fill(strategies, this);
+            PokerGame game = new PokerGame(new CardDeck(), strategies, this);
+            try {
+                while (!closing) {
+                    game.Play();
+                    gamesPlayed.incrementAndGet();
+                }
+            }
+            finally {
+                closing = true;
+                tables.remove(name, this);
+                for (Connection connection : seats) {
+                    connection.Send("CLOSED");
+                    connection.Close();
+                }
+            }
+        }
+
+        // Frees the seat of a player who leaves before the table has started, or closes the table after the
+        // current game if it has started - the player may already have drawn, so the LEFT draw could go unseen
+        synchronized void Leave(Connection connection) {
+            if (started) {
+                closing = true;
+                return;
+            }
+            for (int seat = 0; seat < seats.length; seat++) {
+                if (seats[seat] == connection) {
+                    seats[seat] = null;
+                    numSeated--;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public int ChooseDiscards(int playerNumber, Hand hand) {
+            if (closing) {
+                return 0; // Someone left - finish the game without waiting for anyone
+            }
+            Connection connection = seats[playerNumber - 1];
+            try {
+                Integer drawMask = connection.draws.poll(DRAW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (drawMask == null) {
+                    if (connection.drawDue.compareAndSet(true, false)) {
+                        return 0; // Too slow - stand pat, and a late DRAW is answered "not your turn"
+                    }
+                    drawMask = connection.draws.take(); // The DRAW came in just as the wait ran out
+                }
+                if (drawMask == LEFT) {
+                    closing = true;
+                    return 0;
+                }
+                return drawMask;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closing = true;
+                return 0;
+            }
+        }
+
+        @Override
+        public void HandsDealt(List<Hand> hands) {
+            for (int seat = 0; seat < seats.length; seat++) {
+                if (seats[seat].left) {
+                    closing = true; // Left after the last draw - nobody waits for this game
+                    continue;
+                }
+                seats[seat].drawDue.set(true);
+                seats[seat].Send("HAND " + CardCodes.Codes(hands.get(seat).cards));
+            }
+        }
+
+        @Override
+        public void CardsDrawn(Hand hand, int discardMask) {
+            seats[hand.playerNumber - 1].Send("DRAWN " + CardCodes.Codes(hand.cards));
+        }
+
+        @Override
+        public void HandsScored(List<Hand> hands, int winnerMask) {
+            String outcome = Integer.bitCount(winnerMask) == 1 ? "WIN" : "SPLIT";
+            for (int seat = 0; seat < seats.length; seat++) {
+                Hand hand = hands.get(seat);
+                seats[seat].Send("RESULT " + ((winnerMask & (1 << seat)) != 0 ? outcome : "LOSE") + " " + hand.rank + " " + CardCodes.Codes(hand.cards));
+            }
+        }
+    }
+
+    // Runs the server - arguments: [port] [players per table]
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLAYERS;
+        GameServer server = new GameServer(numPlayers);
+        try (ServerSocket serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress())) {
+            System.out.println("Poker server listening on " + serverSocket.getLocalSocketAddress() + ", " + numPlayers
+                    + " players per table, " + (VirtualThreads.Available() ? "virtual threads" : "platform threads"));
+            server.Serve(serverSocket);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package poker;
+
+// Game stages
+enum GameStage { Deal, Draw, Score, End }
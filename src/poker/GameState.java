@@ -0,0 +1,306 @@
+package poker;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+// Immutable five card draw game state for what-if searches - the deck order, every hand and the stage
+// A state never changes, so any number of branches can be explored from one point of a game. Taking a
+// state from a running game (see PokerGame.Snapshot) copies the deck order and hands once, since the game
+// goes on changing them. From there a branch shares everything it doesn't change with the state it came
+// from: all states from one deal share a single deck order array (dealing and drawing only move the top
+// position), and a draw copies only the small array of packed hands. The deck order is copied again only
+// when the cards left in the deck are reshuffled (see ShuffleRest).
+// Draws are played exactly as PokerGame plays them, so a state taken from a game and given the same
+// discards ends with the same hands and winners.
+//
+// Usage: GameState [seed] [players] [samples]   searches player 1's draw of a seeded game
+final class GameState {
+    // Each hand is packed into an int - card index n of the hand (zero-based) in bits 6n to 6n+5
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+
+    // Holds the deck order as card indices - shared between states and never changed
+    private final int[] deckOrder;
+
+    // Holds the position of the top card of the deck
+    private final int top;
+
+    // Holds the packed hands, player 1 first - shared between states and never changed
+    private final int[] hands;
+
+    // Holds the stage the game is at
+    private final GameStage stage;
+
+    // Holds the next player to draw (zero-based) at the Draw stage
+    private final int drawPlayer;
+
+    // Holds the wild cards of the deck
+    private final WildCards wildCards;
+
+    private GameState(int[] stateDeckOrder, int stateTop, int[] stateHands, GameStage stateStage, int stateDrawPlayer, WildCards stateWildCards) {
+        deckOrder = stateDeckOrder;
+        top = stateTop;
+        hands = stateHands;
+        stage = stateStage;
+        drawPlayer = stateDrawPlayer;
+        wildCards = stateWildCards;
+    }
+
+    // Returns a state at the Deal stage that deals from the deck's remaining cards in their current order
+    static GameState Start(CardDeck deck, int numPlayers) {
+        if (numPlayers < 2 || 5 * numPlayers > deck.Remaining()) {
+            throw new IllegalArgumentException("Number of players must be 2-" + deck.Remaining() / 5);
+        }
+        return new GameState(deck.Order(), deck.Top(), new int[numPlayers], GameStage.Deal, 0, deck.wildCards);
+    }
+
+    // Returns the state of a game at its Draw, Score or End stage - the deck order and hands are copied (O(deck
+    // size)), so the game can carry on while the state is searched
+    // nextDrawPlayer is the next player to draw at the Draw stage - once every player has drawn, the state is
+    // at the Score stage, as after the last Draw of a state
+    static GameState Of(CardDeck deck, List<Hand> gameHands, GameStage gameStage, int nextDrawPlayer) {
+        if (gameStage == GameStage.Deal) {
+            throw new IllegalStateException("Hands are not dealt until the Deal stage ends");
+        }
+        int[] packedHands = new int[gameHands.size()];
+        for (int numPlayer = 0; numPlayer < packedHands.length; numPlayer++) {
+            Hand hand = gameHands.get(numPlayer);
+            if (hand.Size() != 5) {
+                throw new IllegalStateException("Player " + (numPlayer + 1) + " holds " + hand.Size() + " cards, not 5");
+            }
+            for (int numCard = 0; numCard < 5; numCard++) {
+                packedHands[numPlayer] |= hand.CardIndex(numCard) << (CARD_BITS * numCard);
+            }
+        }
+        if (gameStage == GameStage.Draw && nextDrawPlayer >= packedHands.length) {
+            return new GameState(deck.Order(), deck.Top(), packedHands, GameStage.Score, 0, deck.wildCards);
+        }
+        return new GameState(deck.Order(), deck.Top(), packedHands, gameStage, gameStage == GameStage.Draw ? nextDrawPlayer : 0, deck.wildCards);
+    }
+
+    // Returns the stage the game is at
+    GameStage Stage() {
+        return stage;
+    }
+
+    // Returns the next player to draw (zero-based) - only meaningful at the Draw stage
+    int DrawPlayer() {
+        return drawPlayer;
+    }
+
+    // Returns the number of players
+    int NumPlayers() {
+        return hands.length;
+    }
+
+    // Returns the number of cards left in the deck
+    int Remaining() {
+        return deckOrder.length - top;
+    }
+
+    // Returns the card index of a card in a player's hand (both zero-based)
+    int CardIndex(int player, int position) {
+        CheckDealt();
+        if (position < 0 || position >= 5) {
+            throw new IndexOutOfBoundsException("Card position " + position + " of 5");
+        }
+        return (hands[player] >>> (CARD_BITS * position)) & CARD_MASK;
+    }
+
+    // Returns a player's hand as a CardSet mask
+    long HandMask(int player) {
+        CheckDealt();
+        int packed = hands[player];
+        long mask = 0;
+        for (int numCard = 0; numCard < 5; numCard++, packed >>>= CARD_BITS) {
+            mask |= CardSet.Bit(packed & CARD_MASK);
+        }
+        return mask;
+    }
+
+    // Returns the packed strength of a player's hand (see HandEvaluator) - wild cards make the best hand they can
+    int Strength(int player) {
+        return wildCards.Evaluate(HandMask(player));
+    }
+
+    // Returns the players holding the best hand as a mask (bit n set = player n+1)
+    int WinnerMask() {
+        int bestStrength = -1;
+        int winnerMask = 0;
+        for (int numPlayer = 0; numPlayer < hands.length; numPlayer++) {
+            int strength = Strength(numPlayer);
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                winnerMask = 1 << numPlayer;
+            }
+            else if (strength == bestStrength) {
+                winnerMask |= 1 << numPlayer;
+            }
+        }
+        return winnerMask;
+    }
+
+    // Fills a hand with a player's cards, in the order they are held, so it can be passed to a PlayerStrategy
+    // Reusing one hand keeps a search from creating any
+    Hand CopyHand(int player, Hand hand) {
+        CheckDealt();
+        hand.Clear();
+        for (int numCard = 0; numCard < 5; numCard++) {
+            hand.Add(CardIndex(player, numCard));
+        }
+        hand.rank = HandRank.Unranked;
+        hand.playerNumber = player + 1;
+        hand.wildCards = wildCards;
+        return hand;
+    }
+
+    // Returns the state after dealing 5 cards to each player, one card per player at a time
+    GameState Deal() {
+        if (stage != GameStage.Deal) {
+            throw new IllegalStateException("Cannot deal at the " + stage + " stage");
+        }
+        int[] dealtHands = new int[hands.length];
+        int position = top;
+        for (int numCard = 0; numCard < 5; numCard++) {
+            for (int numPlayer = 0; numPlayer < dealtHands.length; numPlayer++) {
+                dealtHands[numPlayer] |= deckOrder[position++] << (CARD_BITS * numCard);
+            }
+        }
+        return new GameState(deckOrder, position, dealtHands, GameStage.Draw, 0, wildCards);
+    }
+
+    // Returns the state after the next player replaces the cards in discardMask (bit n set = card n+1)
+    // from the top of the deck - if the deck runs out, the remaining discards are kept
+    // After the last player has drawn the state moves on to the Score stage
+    GameState Draw(int discardMask) {
+        if (stage != GameStage.Draw) {
+            throw new IllegalStateException("Cannot draw at the " + stage + " stage");
+        }
+        int[] drawnHands = hands;
+        int position = top;
+        if ((discardMask & 0x1F) != 0 && position < deckOrder.length) {
+            int packed = hands[drawPlayer];
+            for (int discards = discardMask & 0x1F; discards != 0 && position < deckOrder.length; discards &= discards - 1) {
+                int shift = CARD_BITS * Integer.numberOfTrailingZeros(discards);
+                packed = (packed & ~(CARD_MASK << shift)) | (deckOrder[position++] << shift);
+            }
+            // Copy on write - the states this one was branched from keep the old hands
+            drawnHands = hands.clone();
+            drawnHands[drawPlayer] = packed;
+        }
+        int nextPlayer = drawPlayer + 1;
+        return nextPlayer < hands.length
+                ? new GameState(deckOrder, position, drawnHands, GameStage.Draw, nextPlayer, wildCards)
+                : new GameState(deckOrder, position, drawnHands, GameStage.Score, 0, wildCards);
+    }
+
+    // Returns the state after the remaining players' draws, each chosen by the strategy
+    // The hand is filled with each player's cards in turn (see CopyHand)
+    GameState DrawAll(PlayerStrategy strategy, Hand hand) {
+        GameState state = this;
+        while (state.stage == GameStage.Draw) {
+            int player = state.drawPlayer;
+            state = state.Draw(strategy.ChooseDiscards(player + 1, state.CopyHand(player, hand)));
+        }
+        return state;
+    }
+
+    // Returns the state after scoring - the hands are final and WinnerMask gives the pot
+    GameState Score() {
+        if (stage != GameStage.Score) {
+            throw new IllegalStateException("Cannot score at the " + stage + " stage");
+        }
+        return new GameState(deckOrder, top, hands, GameStage.End, 0, wildCards);
+    }
+
+    // Returns the same state with the cards left in the deck shuffled - the only change that copies the deck order
+    // Samples the deck order a player cannot see, so a search doesn't rely on knowing which cards come next
+    GameState ShuffleRest(RandomGenerator random) {
+        int[] shuffled = deckOrder.clone();
+        for (int position = shuffled.length - 1; position > top; position--) {
+            int randomPosition = top + random.nextInt(position - top + 1);
+            int card = shuffled[position];
+            shuffled[position] = shuffled[randomPosition];
+            shuffled[randomPosition] = card;
+        }
+        return new GameState(shuffled, top, hands, stage, drawPlayer, wildCards);
+    }
+
+    private void CheckDealt() {
+        if (stage == GameStage.Deal) {
+            throw new IllegalStateException("Hands are not dealt until the Deal stage ends");
+        }
+    }
+
+    // Searches the next player's draw - plays every one of the 32 discard choices against the same sampled deck
+    // orders, with the players after them drawing by the strategy, and returns the number of pots won (a split
+    // pot counts as the player's share) by each discard mask
+    static double[] SearchDraw(GameState state, PlayerStrategy strategy, int numSamples, RandomGenerator random) {
+        if (state.stage != GameStage.Draw) {
+            throw new IllegalStateException("Cannot search a draw at the " + state.stage + " stage");
+        }
+        int player = state.drawPlayer;
+        double[] wins = new double[32];
+        Hand hand = new Hand();
+        for (int sample = 0; sample < numSamples; sample++) {
+            GameState sampled = state.ShuffleRest(random);
+            for (int discardMask = 0; discardMask < 32; discardMask++) {
+                int winnerMask = sampled.Draw(discardMask).DrawAll(strategy, hand).WinnerMask();
+                if ((winnerMask & (1 << player)) != 0) {
+                    wins[discardMask] += 1.0 / Integer.bitCount(winnerMask);
+                }
+            }
+        }
+        return wins;
+    }
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int numSamples = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+
+        CardDeck deck = new CardDeck(seed);
+        deck.Shuffle();
+        GameState dealt = Start(deck, numPlayers).Deal();
+        Hand hand = dealt.CopyHand(0, new Hand());
+        System.out.print(hand.DisplayHand());
+        int botDiscards = BotStrategy.INSTANCE.ChooseDiscards(1, hand);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean countBytes = threads instanceof com.sun.management.ThreadMXBean;
+        long startBytes = countBytes ? ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes() : 0;
+        long startTime = System.nanoTime();
+        double[] wins = SearchDraw(dealt, BotStrategy.INSTANCE, numSamples, random);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+        long allocatedBytes = countBytes ? ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes() - startBytes : -1;
+
+        int bestDiscards = 0;
+        for (int discardMask = 1; discardMask < 32; discardMask++) {
+            if (wins[discardMask] > wins[bestDiscards]) {
+                bestDiscards = discardMask;
+            }
+        }
+        System.out.println(String.format("Best draw %s wins %.2f%%, bot draw %s wins %.2f%%",
+                DiscardCards(bestDiscards), 100.0 * wins[bestDiscards] / numSamples,
+                DiscardCards(botDiscards), 100.0 * wins[botDiscards] / numSamples));
+        long branches = 32L * numSamples;
+        System.out.println(String.format("%d branches, %.0f branches per second, %s bytes allocated per branch",
+                branches, branches / elapsedSeconds, allocatedBytes < 0 ? "?" : String.format("%.1f", (double) allocatedBytes / branches)));
+    }
+
+    // Returns the card numbers in a discard mask, such as "1 3 4", or "none"
+    private static String DiscardCards(int discardMask) {
+        if (discardMask == 0) {
+            return "none";
+        }
+        StringBuilder cards = new StringBuilder();
+        for (int discards = discardMask; discards != 0; discards &= discards - 1) {
+            cards.append(cards.length() > 0 ? " " : "").append(Integer.numberOfTrailingZeros(discards) + 1);
+        }
+        return cards.toString();
+    }
+}
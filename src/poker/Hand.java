@@ -0,0 +1,239 @@
+package poker;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+class Hand { // Definition for a card hand
+    // Holds collection of cards, in the order they are held - a list view over the card indices below,
+    // so holding and changing cards creates no objects
+    public final List<Card> cards = new CardList();
+
+    // Holds the card indices in the order they are held
+    private int[] cardOrder = new int[5];
+
+    // Holds the number of cards held
+    private int numCards = 0;
+
+    // Holds the cards held as a CardSet mask
+    private long cardMask = 0;
+
+    // Holds hand rank - starts with being unranked
+    public HandRank rank = HandRank.Unranked;
+
+    // Holds face value of high card in rank
+    public CardFace highCard = CardFace.values()[0];
+
+    // Holds packed strength of the hand (rank plus all tiebreak faces) - see HandEvaluator
+    public int strength;
+
+    // Holds the player number associated with this hand
+    public int playerNumber;
+
+    // Holds the cards that are wild in this hand - jokers are always wild
+    public WildCards wildCards = WildCards.NONE;
+
+    // Optional precomputed table - when set, GetRank scores the hand with a single lookup
+    static HandLookupTable lookupTable;
+
+    // Returns multiple lines as a string with the card number and face value plus suit
+    public String DisplayHand()
+    {
+        String returnHand = "";
+        // Loop through collection of cards in hand (zero-based)
+        for (int cardCount = 0; cardCount < cards.size(); cardCount++) {
+            returnHand += "Card " + String.valueOf(cardCount+1) + ": " + cards.get(cardCount).toString() + "\n";
+        }
+        return returnHand;
+    }
+
+    // Returns the number of cards held
+    public int Size()
+    {
+        return numCards;
+    }
+
+    // Returns the card index of the card at a position (zero-based)
+    public int CardIndex(int position)
+    {
+        if (position < 0 || position >= numCards) {
+            throw new IndexOutOfBoundsException("Card position " + position + " of " + numCards);
+        }
+        return cardOrder[position];
+    }
+
+    // Returns the cards held as a CardSet mask
+    public long Mask()
+    {
+        return cardMask;
+    }
+
+    // Returns the cards held
+    public CardSet Cards()
+    {
+        return new CardSet(cardMask);
+    }
+
+    // Returns true if the card is held
+    public boolean Contains(Card card)
+    {
+        return (cardMask & CardSet.Bit(card.index)) != 0;
+    }
+
+    // Adds a card (by card index) after the cards already held
+    public void Add(int cardIndex)
+    {
+        Insert(numCards, cardIndex);
+    }
+
+    // Replaces the card at a position (zero-based) with another card and returns the card index replaced
+    public int Replace(int position, int cardIndex)
+    {
+        int oldCard = CardIndex(position);
+        long otherCards = cardMask & ~CardSet.Bit(oldCard);
+        if ((otherCards & CardSet.Bit(cardIndex)) != 0) {
+            throw new IllegalArgumentException("Card " + Card.Of(cardIndex) + " is already in the hand");
+        }
+        cardOrder[position] = cardIndex;
+        cardMask = otherCards | CardSet.Bit(cardIndex);
+        return oldCard;
+    }
+
+    // Removes every card
+    public void Clear()
+    {
+        numCards = 0;
+        cardMask = 0;
+    }
+
+    private void Insert(int position, int cardIndex)
+    {
+        if ((cardMask & CardSet.Bit(cardIndex)) != 0) {
+            throw new IllegalArgumentException("Card " + Card.Of(cardIndex) + " is already in the hand");
+        }
+        if (numCards == cardOrder.length) {
+            cardOrder = Arrays.copyOf(cardOrder, numCards * 2);
+        }
+        System.arraycopy(cardOrder, position, cardOrder, position + 1, numCards - position);
+        cardOrder[position] = cardIndex;
+        numCards++;
+        cardMask |= CardSet.Bit(cardIndex);
+    }
+
+    private int Remove(int position)
+    {
+        int cardIndex = CardIndex(position);
+        System.arraycopy(cardOrder, position + 1, cardOrder, position, numCards - position - 1);
+        numCards--;
+        cardMask &= ~CardSet.Bit(cardIndex);
+        return cardIndex;
+    }
+
+    // List of the cards held - every change goes through the card indices and mask of the hand
+    private final class CardList extends AbstractList<Card> implements RandomAccess {
+        @Override
+        public Card get(int position) {
+            return Card.Of(CardIndex(position));
+        }
+
+        @Override
+        public int size() {
+            return numCards;
+        }
+
+        @Override
+        public Card set(int position, Card card) {
+            return Card.Of(Replace(position, card.index));
+        }
+
+        @Override
+        public void add(int position, Card card) {
+            if (position < 0 || position > numCards) {
+                throw new IndexOutOfBoundsException("Card position " + position + " of " + numCards);
+            }
+            Insert(position, card.index);
+            modCount++;
+        }
+
+        @Override
+        public Card remove(int position) {
+            modCount++;
+            return Card.Of(Remove(position));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            Clear();
+        }
+    }
+
+    // Private method to sort cards based on face value
+    // Stable insertion sort of the card indices (ascending) - cards of the same face keep their order, jokers go last
+    private void SortCards() {
+        for (int position = 1; position < numCards; position++) {
+            int card = cardOrder[position];
+            int face = SortFace(card);
+            int insert = position;
+            while (insert > 0 && SortFace(cardOrder[insert - 1]) > face) {
+                cardOrder[insert] = cardOrder[insert - 1];
+                insert--;
+            }
+            cardOrder[insert] = card;
+        }
+    }
+
+    // Returns the face ordinal a card sorts by - jokers sort above every face
+    private static int SortFace(int cardIndex) {
+        return cardIndex >= CardDeck.JOKER ? HandEvaluator.NUM_FACES : HandEvaluator.Face(cardIndex);
+    }
+
+    // Calculates the rank of the hand
+    // Cards are sorted by face value (for display), then the hand is scored by the lookup table if one
+    // is loaded (otherwise by the bitmask evaluator) and both rank and high card are taken from the
+    // packed strength that is returned
+    // Hands of 6 or 7 cards (Hold'em, Stud) are ranked by their best five cards - see BestCards
+    // Five card hands holding wild cards are ranked as the best hand the wild cards can make - see WildCards
+    public final void GetRank()
+    {
+        long startTime = Metrics.Now();
+
+        // Sort cards by face value
+        SortCards();
+
+        if (numCards == 5) {
+            if ((cardMask & wildCards.Mask()) != 0) {
+                strength = wildCards.Evaluate(cardMask);
+            }
+            else {
+                strength = lookupTable != null ? lookupTable.Lookup(cardMask) : HandEvaluator.Evaluate(cardMask);
+            }
+        }
+        else if ((cardMask & wildCards.Mask()) != 0) {
+            throw new IllegalArgumentException("Hands with wild cards must hold 5 cards to be ranked, found " + numCards);
+        }
+        else if (numCards > 5 && numCards <= 7) {
+            strength = BestHandEvaluator.Evaluate(cardMask);
+        }
+        else {
+            throw new IllegalArgumentException("Hand must hold 5 to 7 cards to be ranked, found " + numCards);
+        }
+        rank = HandEvaluator.Rank(strength);
+        highCard = HandEvaluator.HighCard(strength);
+
+        if (Metrics.ENABLED) {
+            Metrics.GET_RANK.RecordSince(startTime);
+            Metrics.RANKS.Increment(rank);
+        }
+    }
+
+    // Returns the five cards that make up the rank found by the last GetRank (all of them in a five card hand)
+    public CardSet BestCards()
+    {
+        if (rank == HandRank.Unranked) {
+            throw new IllegalStateException("Hand has not been ranked");
+        }
+        return new CardSet(numCards == 5 ? cardMask : BestHandEvaluator.BestFive(cardMask, strength));
+    }
+}
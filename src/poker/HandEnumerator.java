@@ -0,0 +1,142 @@
+package poker;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Exhaustive enumeration of every five card hand from a 52 card CardDeck (2,598,960 hands)
+// Ranks each hand, counts how many hands there are of each HandRank and compares the counts to the
+// known frequencies, so it works as a correctness check of the evaluator as well as a throughput
+// benchmark. Hands are split by their highest card into fork-join tasks - the number of hands per
+// highest card varies a lot, so idle workers steal the remaining halves from busy ones.
+final class HandEnumerator {
+    // Ranks hands with HandEvaluator straight from card indices
+    static final int MODE_EVALUATOR = 0;
+
+    // Ranks hands through Hand.GetRank (uses Hand.lookupTable if one is loaded)
+    static final int MODE_HAND = 1;
+
+    private HandEnumerator() {}
+
+    // Fork-join task counting the ranks of all hands whose highest card position is in [fromCard, toCard)
+    private static final class CountTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] deckCards;
+        private final int mode;
+        private final int fromCard;
+        private final int toCard;
+
+        CountTask(int[] cards, int evaluateMode, int from, int to) {
+            deckCards = cards;
+            mode = evaluateMode;
+            fromCard = from;
+            toCard = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (toCard - fromCard > 1) {
+                int middle = (fromCard + toCard) >>> 1;
+                CountTask high = new CountTask(deckCards, mode, middle, toCard);
+                high.fork();
+                long[] counts = new CountTask(deckCards, mode, fromCard, middle).compute();
+                long[] highCounts = high.join();
+                for (int rank = 0; rank < counts.length; rank++) {
+                    counts[rank] += highCounts[rank];
+                }
+                return counts;
+            }
+            return mode == MODE_HAND ? CountWithHand(fromCard) : CountWithEvaluator(fromCard);
+        }
+
+        // Counts ranks of every hand whose highest card is at position c4 using the evaluator directly
+        private long[] CountWithEvaluator(int c4) {
+            long[] counts = new long[HandEvaluator.FIVE_CARD_FREQUENCIES.length];
+            int[] cards = deckCards;
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            counts[HandEvaluator.Evaluate(cards[c0], cards[c1], cards[c2], cards[c3], cards[c4]) >>> HandEvaluator.RANK_SHIFT]++;
+                        }
+                    }
+                }
+            }
+            return counts;
+        }
+
+        // Counts ranks of every hand whose highest card is at position c4 through a reused Hand
+        private long[] CountWithHand(int c4) {
+            long[] counts = new long[HandEvaluator.FIVE_CARD_FREQUENCIES.length];
+            int[] cards = deckCards;
+            Hand hand = new Hand();
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            // GetRank sorts the cards, so the hand is refilled each time
+                            hand.Clear();
+                            hand.Add(cards[c0]);
+                            hand.Add(cards[c1]);
+                            hand.Add(cards[c2]);
+                            hand.Add(cards[c3]);
+                            hand.Add(cards[c4]);
+                            hand.GetRank();
+                            counts[hand.rank.ordinal()]++;
+                        }
+                    }
+                }
+            }
+            return counts;
+        }
+    }
+
+    // Ranks every five card hand in the specified deck and returns the number of hands of each HandRank
+    // (indexed by ordinal)
+    static long[] CountRanks(CardDeck deck, int mode) {
+        if (deck.Remaining() != CardDeck.NUM_CARDS) {
+            throw new IllegalArgumentException("Deck must hold all " + CardDeck.NUM_CARDS + " cards");
+        }
+        int[] cards = deck.Order();
+        return ForkJoinPool.commonPool().invoke(new CountTask(cards, mode, 4, CardDeck.NUM_CARDS));
+    }
+
+    // Returns true if every count matches the known number of hands of that HandRank
+    static boolean MatchesExpected(long[] counts) {
+        for (int rank = 0; rank < counts.length; rank++) {
+            if (counts[rank] != HandEvaluator.FIVE_CARD_FREQUENCIES[rank]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Enumerates all hands and prints the frequency report and throughput
+    // Arguments: [evaluator|hand] [lookup table file] - exits with status 1 if any frequency is wrong
+    public static void main(String[] args) throws IOException {
+        int mode = args.length > 0 && args[0].equals("hand") ? MODE_HAND : MODE_EVALUATOR;
+        if (args.length > 1) {
+            Hand.lookupTable = HandLookupTable.Load(Paths.get(args[1]));
+        }
+
+        long startTime = System.nanoTime();
+        long[] counts = CountRanks(new CardDeck(), mode);
+        long elapsed = System.nanoTime() - startTime;
+
+        long total = 0;
+        HandRank[] ranks = HandRank.values();
+        for (int rank = 0; rank < counts.length; rank++) {
+            total += counts[rank];
+            String check = counts[rank] == HandEvaluator.FIVE_CARD_FREQUENCIES[rank] ? "ok" : "EXPECTED " + HandEvaluator.FIVE_CARD_FREQUENCIES[rank];
+            System.out.println(String.format("%-14s %9d  %s", ranks[rank], counts[rank], check));
+        }
+        System.out.println(String.format("Total %d hands in %d ms (%.1f million hands per second, %d workers)",
+                total, elapsed / 1000000, total * 1000.0 / elapsed, ForkJoinPool.commonPool().getParallelism()));
+        if (!MatchesExpected(counts)) {
+            System.out.println("Hand rank frequencies do not match");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package poker;
+
+import java.util.List;
+
+// Allocation-free hand evaluator
+// Cards are reduced to a face bitmask (one bit per face), a packed count of cards per face
+// (4 bits per face held in a long) and a suit bitmask, so no objects are created per call.
+// The result is a single packed int "strength" - the HandRank ordinal in the top bits followed
+// by up to five 4-bit face values (the rank's own faces first, then kickers, highest first).
+// A larger strength is always a better hand, so strengths can be compared directly.
+final class HandEvaluator {
+    // Bit position of the HandRank ordinal within a packed strength
+    static final int RANK_SHIFT = 20;
+
+    // Bit position of the first (most significant) face within a packed strength
+    static final int HIGH_CARD_SHIFT = 16;
+
+    // Number of faces and suits - card indices run from 0 to 51 (suit, then face)
+    static final int NUM_FACES = 13;
+    static final int NUM_SUITS = 4;
+    static final int NUM_CARDS = NUM_FACES * NUM_SUITS;
+
+    // Number of five card hands of each HandRank (indexed by ordinal) across all 2,598,960 hands
+    // (FiveOfAKind needs wild cards - see WildEvaluator)
+    static final long[] FIVE_CARD_FREQUENCIES = { 0, 1302540, 1098240, 123552, 54912, 10200, 5108, 3744, 624, 36, 4, 0 };
+
+    // Face mask of an Ace-low straight (Ace, Two, Three, Four, Five)
+    private static final int WHEEL_MASK = 0x100F;
+
+    // Cached enum values - values() clones its array on every call
+    private static final HandRank[] RANKS = HandRank.values();
+    private static final CardFace[] FACES = CardFace.values();
+
+    private HandEvaluator() {}
+
+    // Returns the card index (0-51) for a face and suit - same order a new CardDeck is created in
+    static int CardIndex(CardFace face, CardSuit suit) {
+        return suit.ordinal() * NUM_FACES + face.ordinal();
+    }
+
+    // Returns the card index (0-51) for a card
+    static int CardIndex(Card card) {
+        return card.index;
+    }
+
+    // Returns the face ordinal of a card index
+    static int Face(int cardIndex) {
+        return cardIndex % NUM_FACES;
+    }
+
+    // Returns the suit ordinal of a card index
+    static int Suit(int cardIndex) {
+        return cardIndex / NUM_FACES;
+    }
+
+    // Returns the HandRank held in a packed strength
+    static HandRank Rank(int strength) {
+        return RANKS[strength >>> RANK_SHIFT];
+    }
+
+    // Returns the face of the high card in rank held in a packed strength
+    static CardFace HighCard(int strength) {
+        return FACES[(strength >>> HIGH_CARD_SHIFT) & 0xF];
+    }
+
+    // Evaluates a five card hand
+    static int Evaluate(List<Card> cards) {
+        if (cards.size() != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be ranked, found " + cards.size());
+        }
+        // Indexed loop - no iterator is created
+        int faceMask = 0;
+        int suitMask = 0;
+        long faceCounts = 0;
+        for (int numCard = 0; numCard < 5; numCard++) {
+            Card card = cards.get(numCard);
+            int face = card.face.ordinal();
+            faceMask |= 1 << face;
+            suitMask |= 1 << card.suit.ordinal();
+            faceCounts += 1L << (face << 2);
+        }
+        return Evaluate(faceMask, faceCounts, Integer.bitCount(suitMask) == 1);
+    }
+
+    // Evaluates a five card hand given as card indices (0-51)
+    static int Evaluate(int c0, int c1, int c2, int c3, int c4) {
+        int f0 = Face(c0), f1 = Face(c1), f2 = Face(c2), f3 = Face(c3), f4 = Face(c4);
+        int faceMask = (1 << f0) | (1 << f1) | (1 << f2) | (1 << f3) | (1 << f4);
+        long faceCounts = (1L << (f0 << 2)) + (1L << (f1 << 2)) + (1L << (f2 << 2)) + (1L << (f3 << 2)) + (1L << (f4 << 2));
+        int suit = Suit(c0);
+        boolean flush = Suit(c1) == suit && Suit(c2) == suit && Suit(c3) == suit && Suit(c4) == suit;
+        return Evaluate(faceMask, faceCounts, flush);
+    }
+
+    // Evaluates a five card hand given as a CardSet mask
+    static int Evaluate(long cardMask) {
+        if (Long.bitCount(cardMask) != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be ranked, found " + Long.bitCount(cardMask));
+        }
+        int faceMask = 0;
+        boolean flush = false;
+        for (int suit = 0; suit < NUM_SUITS; suit++) {
+            int suitMask = CardSet.SuitMask(cardMask, suit);
+            faceMask |= suitMask;
+            flush |= Integer.bitCount(suitMask) == 5;
+        }
+        long faceCounts = 0;
+        if (Integer.bitCount(faceMask) != 5) {
+            // Counts are only needed when faces repeat
+            for (long cards = cardMask; cards != 0; cards &= cards - 1) {
+                faceCounts += 1L << (Face(Long.numberOfTrailingZeros(cards)) << 2);
+            }
+        }
+        return Evaluate(faceMask, faceCounts, flush);
+    }
+
+    // Evaluates five cards described by their face mask, their per-face counts and whether they share a suit
+    private static int Evaluate(int faceMask, long faceCounts, boolean flush) {
+        // Five distinct faces - could be a straight and/or a flush, otherwise nothing
+        if (Integer.bitCount(faceMask) == 5) {
+            int straightHigh = StraightHigh(faceMask);
+            if (straightHigh >= 0) {
+                if (flush) {
+                    HandRank rank = straightHigh == CardFace.Ace.ordinal() ? HandRank.RoyalFlush : HandRank.StraightFlush;
+                    return Pack(rank, straightHigh, 1);
+                }
+                return Pack(HandRank.Straight, straightHigh, 1);
+            }
+            return Pack(flush ? HandRank.Flush : HandRank.Nothing, Descending(faceMask), 5);
+        }
+
+        // Repeated faces - find the groups, highest face first
+        int quads = -1;
+        int trips = -1;
+        int highPair = -1;
+        int lowPair = -1;
+        for (int face = NUM_FACES - 1; face >= 0; face--) {
+            int count = (int) (faceCounts >>> (face << 2)) & 0xF;
+            if (count == 4) {
+                quads = face;
+            }
+            else if (count == 3) {
+                trips = face;
+            }
+            else if (count == 2) {
+                if (highPair < 0) {
+                    highPair = face;
+                }
+                else {
+                    lowPair = face;
+                }
+            }
+        }
+
+        if (quads >= 0) {
+            return Pack(HandRank.FourOfAKind, (quads << 4) | Descending(faceMask & ~(1 << quads)), 2);
+        }
+        if (trips >= 0) {
+            if (highPair >= 0) {
+                return Pack(HandRank.FullHouse, (trips << 4) | highPair, 2);
+            }
+            return Pack(HandRank.ThreeOfAKind, (trips << 8) | Descending(faceMask & ~(1 << trips)), 3);
+        }
+        if (lowPair >= 0) {
+            int kickers = faceMask & ~(1 << highPair) & ~(1 << lowPair);
+            return Pack(HandRank.TwoPair, (highPair << 8) | (lowPair << 4) | Descending(kickers), 3);
+        }
+        return Pack(HandRank.Pair, (highPair << 12) | Descending(faceMask & ~(1 << highPair)), 4);
+    }
+
+    // Returns the high face of a straight held in a face mask of five distinct faces, or -1 if none
+    private static int StraightHigh(int faceMask) {
+        int lowFace = Integer.numberOfTrailingZeros(faceMask);
+        if ((faceMask >>> lowFace) == 0x1F) {
+            return lowFace + 4;
+        }
+        if (faceMask == WHEEL_MASK) {
+            return CardFace.Five.ordinal(); // Ace plays low - the Five is the high card
+        }
+        return -1;
+    }
+
+    // Returns the faces set in a face mask packed 4 bits each, highest face first
+    static int Descending(int faceMask) {
+        int faces = 0;
+        while (faceMask != 0) {
+            int face = 31 - Integer.numberOfLeadingZeros(faceMask);
+            faces = (faces << 4) | face;
+            faceMask &= ~(1 << face);
+        }
+        return faces;
+    }
+
+    // Packs a rank and its faces (numFaces faces, 4 bits each, most significant first) into a strength
+    static int Pack(HandRank rank, int faces, int numFaces) {
+        return (rank.ordinal() << RANK_SHIFT) | (faces << ((5 - numFaces) << 2));
+    }
+}
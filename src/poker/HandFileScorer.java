@@ -0,0 +1,306 @@
+package poker;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+// Streaming parallel scorer for large text files of hands, one hand per line, for example "AS KD 7H 7C 2D"
+// The file is read through a channel in fixed size blocks of raw bytes. Each block is split at line breaks
+// into slices that are scored in parallel - every slice parses card codes straight from the bytes into card
+// indices, ranks them without creating any objects and appends the rank name to its own output buffer. The
+// slice outputs are then written in order, so the output has one rank per input line. Two blocks are used
+// in turn so the next block is read while the current one is scored, and memory stays the same whatever
+// the size of the file.
+// Jokers (code JK, up to CardDeck.MAX_JOKERS per line) are wild and ranked through WildCards. Lines that don't
+// hold five distinct cards are ranked Unranked.
+final class HandFileScorer {
+    // Default size of a block - also the longest line that can be read
+    static final int DEFAULT_BLOCK_BYTES = 8 << 20;
+
+    // Number of slices each block is split into per available processor
+    private static final int SLICES_PER_PROCESSOR = 4;
+
+    // Rank names followed by a line break, indexed by HandRank ordinal
+    private static final byte[][] RANK_LINES = RankLines();
+
+    // Longest rank line
+    private static final int MAX_RANK_LINE = Arrays.stream(RANK_LINES).mapToInt(line -> line.length).max().getAsInt();
+
+    private HandFileScorer() {}
+
+    private static byte[][] RankLines() {
+        HandRank[] ranks = HandRank.values();
+        byte[][] rankLines = new byte[ranks.length][];
+        for (int rank = 0; rank < ranks.length; rank++) {
+            rankLines[rank] = (ranks[rank] + "\n").getBytes(StandardCharsets.US_ASCII);
+        }
+        return rankLines;
+    }
+
+    // One block of input and the scores of its slices - reused for every block read into it
+    private static final class Block {
+        final byte[] data;
+        int length;        // Bytes read into data
+        int linesEnd;      // End of the last complete line - the rest is carried into the next block
+
+        final int[] sliceStarts;
+        final byte[][] outputs;
+        final int[] outputLengths;
+        final long[][] counts;
+
+        Block(int blockBytes, int numSlices) {
+            data = new byte[blockBytes];
+            sliceStarts = new int[numSlices + 1];
+            outputs = new byte[numSlices][];
+            outputLengths = new int[numSlices];
+            counts = new long[numSlices][RANK_LINES.length];
+            for (int slice = 0; slice < numSlices; slice++) {
+                outputs[slice] = new byte[blockBytes / numSlices + MAX_RANK_LINE];
+            }
+        }
+    }
+
+    // Scores every line read from the input, writing one rank name per line to the output (if not null)
+    // Returns the number of lines of each HandRank, indexed by ordinal
+    static long[] Score(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        return Score(input, output, DEFAULT_BLOCK_BYTES);
+    }
+
+    // Scores every line read from the input using blocks of the specified size
+    static long[] Score(ReadableByteChannel input, WritableByteChannel output, int blockBytes) throws IOException {
+        int numSlices = Runtime.getRuntime().availableProcessors() * SLICES_PER_PROCESSOR;
+        Block current = new Block(blockBytes, numSlices);
+        Block next = new Block(blockBytes, numSlices);
+        long[] counts = new long[RANK_LINES.length];
+
+        boolean endOfInput = Fill(input, current, 0);
+        while (current.length > 0) {
+            current.linesEnd = endOfInput ? current.length : LastLineEnd(current);
+            if (current.linesEnd == 0) {
+                throw new IOException("Line longer than " + blockBytes + " bytes");
+            }
+            Block scoring = current;
+            CompletableFuture<Void> scored = CompletableFuture.runAsync(() -> ScoreBlock(scoring));
+
+            // Read the next block (starting with the carried partial line) while this one is scored
+            int carried = current.length - current.linesEnd;
+            System.arraycopy(current.data, current.linesEnd, next.data, 0, carried);
+            boolean nextEndOfInput = endOfInput || Fill(input, next, carried);
+            if (endOfInput) {
+                next.length = 0;
+            }
+
+            scored.join();
+            for (int slice = 0; slice < numSlices; slice++) {
+                if (output != null) {
+                    Write(output, current.outputs[slice], current.outputLengths[slice]);
+                }
+                for (int rank = 0; rank < counts.length; rank++) {
+                    counts[rank] += current.counts[slice][rank];
+                }
+            }
+            endOfInput = nextEndOfInput;
+            current = next;
+            next = scoring;
+        }
+        return counts;
+    }
+
+    // Reads into a block after the first bytes until it is full or the input ends
+    // Returns true if the input has ended
+    private static boolean Fill(ReadableByteChannel input, Block block, int offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(block.data, offset, block.data.length - offset);
+        boolean endOfInput = false;
+        while (buffer.hasRemaining()) {
+            if (input.read(buffer) < 0) {
+                endOfInput = true;
+                break;
+            }
+        }
+        block.length = buffer.position();
+        return endOfInput;
+    }
+
+    // Returns the end of the last complete line in a block (just after its line break), or 0 if there is none
+    private static int LastLineEnd(Block block) {
+        for (int position = block.length - 1; position >= 0; position--) {
+            if (block.data[position] == '\n') {
+                return position + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static void Write(WritableByteChannel output, byte[] bytes, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        while (buffer.hasRemaining()) {
+            output.write(buffer);
+        }
+    }
+
+    // Splits a block at line breaks and scores the slices in parallel
+    private static void ScoreBlock(Block block) {
+        int numSlices = block.outputs.length;
+        block.sliceStarts[0] = 0;
+        for (int slice = 1; slice < numSlices; slice++) {
+            int start = Math.max(block.sliceStarts[slice - 1], (int) ((long) block.linesEnd * slice / numSlices));
+            while (start > 0 && start < block.linesEnd && block.data[start - 1] != '\n') {
+                start++;
+            }
+            block.sliceStarts[slice] = start;
+        }
+        block.sliceStarts[numSlices] = block.linesEnd;
+        IntStream.range(0, numSlices).parallel().forEach(slice -> ScoreSlice(block, slice));
+    }
+
+    // Scores the lines of one slice into the slice's output and counts
+    private static void ScoreSlice(Block block, int slice) {
+        byte[] data = block.data;
+        long[] counts = block.counts[slice];
+        Arrays.fill(counts, 0);
+        byte[] output = block.outputs[slice];
+        int outputLength = 0;
+        HandLookupTable lookupTable = Hand.lookupTable;
+
+        int end = block.sliceStarts[slice + 1];
+        int lineStart = block.sliceStarts[slice];
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int rank = RankLine(data, lineStart, lineEnd, lookupTable);
+            lineStart = lineEnd + 1;
+
+            counts[rank]++;
+            byte[] rankLine = RANK_LINES[rank];
+            if (output.length - outputLength < rankLine.length) {
+                output = Arrays.copyOf(output, output.length * 2);
+                block.outputs[slice] = output;
+            }
+            System.arraycopy(rankLine, 0, output, outputLength, rankLine.length);
+            outputLength += rankLine.length;
+        }
+        block.outputLengths[slice] = outputLength;
+    }
+
+    // Returns the HandRank ordinal of the five card codes on a line, or Unranked if they aren't five distinct cards
+    private static int RankLine(byte[] data, int start, int end, HandLookupTable lookupTable) {
+        if (end - start == 14 && data[start + 2] == ' ' && data[start + 5] == ' ' && data[start + 8] == ' ' && data[start + 11] == ' ') {
+            // Common case - five codes separated by single spaces (anything else, jokers included, is parsed below)
+            int c0 = CardCodes.Parse(data[start], data[start + 1]);
+            int c1 = CardCodes.Parse(data[start + 3], data[start + 4]);
+            int c2 = CardCodes.Parse(data[start + 6], data[start + 7]);
+            int c3 = CardCodes.Parse(data[start + 9], data[start + 10]);
+            int c4 = CardCodes.Parse(data[start + 12], data[start + 13]);
+            if ((c0 | c1 | c2 | c3 | c4) >= 0) {
+                if (Long.bitCount((1L << c0) | (1L << c1) | (1L << c2) | (1L << c3) | (1L << c4)) != 5) {
+                    return HandRank.Unranked.ordinal();
+                }
+                return Rank(c0, c1, c2, c3, c4, lookupTable);
+            }
+        }
+
+        int c0 = 0, c1 = 0, c2 = 0, c3 = 0, c4 = 0;
+        long cardMask = 0;
+        int position = start;
+        for (int numCard = 0; numCard < 5; numCard++) {
+            while (position < end && IsSpace(data[position])) {
+                position++;
+            }
+            if (end - position < 2 || (end - position > 2 && !IsSpace(data[position + 2]))) {
+                return HandRank.Unranked.ordinal();
+            }
+            int card = CardCodes.Parse(data[position], data[position + 1]);
+            if (card < 0 && IsJoker(data[position], data[position + 1])) {
+                // Each joker on the line is the next joker of the deck
+                card = CardDeck.JOKER + Long.bitCount(cardMask & CardSet.JOKER_MASK);
+                if (card >= CardDeck.JOKER + CardDeck.MAX_JOKERS) {
+                    return HandRank.Unranked.ordinal();
+                }
+            }
+            if (card < 0) {
+                return HandRank.Unranked.ordinal();
+            }
+            position += 2;
+            cardMask |= 1L << card;
+            switch (numCard) {
+                case 0: c0 = card; break;
+                case 1: c1 = card; break;
+                case 2: c2 = card; break;
+                case 3: c3 = card; break;
+                default: c4 = card; break;
+            }
+        }
+        while (position < end && IsSpace(data[position])) {
+            position++;
+        }
+        if (position != end || Long.bitCount(cardMask) != 5) {
+            return HandRank.Unranked.ordinal();
+        }
+        if ((cardMask & CardSet.JOKER_MASK) != 0) {
+            return WildCards.NONE.Evaluate(cardMask) >>> HandEvaluator.RANK_SHIFT;
+        }
+        return Rank(c0, c1, c2, c3, c4, lookupTable);
+    }
+
+    // Returns true if a face code byte and suit code byte are the joker code
+    private static boolean IsJoker(byte faceCode, byte suitCode) {
+        return (faceCode | 0x20) == (CardCodes.JOKER_CODE.charAt(0) | 0x20) && (suitCode | 0x20) == (CardCodes.JOKER_CODE.charAt(1) | 0x20);
+    }
+
+    private static int Rank(int c0, int c1, int c2, int c3, int c4, HandLookupTable lookupTable) {
+        int strength = lookupTable != null ? lookupTable.Lookup(c0, c1, c2, c3, c4) : HandEvaluator.Evaluate(c0, c1, c2, c3, c4);
+        return strength >>> HandEvaluator.RANK_SHIFT;
+    }
+
+    private static boolean IsSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    // Scores a file - arguments: <input file|-> [output file|-] [lookup table file]
+    // "-" reads standard input or writes standard output; the counts are printed when there is an output file
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: HandFileScorer <input file|-> [output file|-] [lookup table file]");
+            System.exit(2);
+        }
+        if (args.length > 2) {
+            Hand.lookupTable = HandLookupTable.Load(Paths.get(args[2]));
+        }
+        boolean toStandardOutput = args.length > 1 && args[1].equals("-");
+        long startTime = System.nanoTime();
+        long[] counts;
+        try (ReadableByteChannel input = args[0].equals("-") ? Channels.newChannel(System.in) : Files.newByteChannel(Paths.get(args[0]));
+             WritableByteChannel output = args.length < 2 ? null
+                     : toStandardOutput ? new FileOutputStream(FileDescriptor.out).getChannel()
+                     : Files.newByteChannel(Paths.get(args[1]), StandardOpenOption.CREATE,
+                             StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            counts = Score(input, output);
+        }
+        long elapsed = System.nanoTime() - startTime;
+        if (toStandardOutput) {
+            return;
+        }
+
+        long total = 0;
+        HandRank[] ranks = HandRank.values();
+        for (int rank = 0; rank < counts.length; rank++) {
+            total += counts[rank];
+            System.out.println(String.format("%-14s %12d", ranks[rank], counts[rank]));
+        }
+        System.out.println(String.format("Total %d lines in %d ms (%.1f million lines per second)",
+                total, elapsed / 1000000, total * 1000.0 / Math.max(1, elapsed)));
+    }
+}
@@ -0,0 +1,101 @@
+package poker;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Streams hand history segments (see HandHistoryWriter) back and re-verifies every recorded game
+// Each SCORE record's cards are ranked again (with the wild cards in the segment header) and checked against
+// the recorded strength, and the winners worked out from those strengths are checked against the GAME_END
+// record. Records are read with absolute gets straight from the read-only mapping, so nothing is allocated
+// per event.
+final class HandHistoryReplay {
+    private HandHistoryReplay() {}
+
+    // Totals of a replay
+    static final class Summary {
+        long events;
+        long games;
+        long strengthMismatches;
+        long winnerMismatches;
+
+        // Holds the best strength and winners of the game being replayed - a game's records can run on
+        // into the next segment, so these carry over from one segment to the next
+        int bestStrength = -1;
+        int winnerMask = 0;
+    }
+
+    // Replays every segment in a directory, in the order written
+    static Summary Replay(Path historyDirectory) throws IOException {
+        Summary summary = new Summary();
+        for (Path segmentPath : HandHistoryWriter.Segments(historyDirectory)) {
+            ReplaySegment(segmentPath, summary);
+        }
+        return summary;
+    }
+
+    // Replays one segment, adding to the summary - segments must be replayed in the order written
+    static void ReplaySegment(Path segmentPath, Summary summary) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            if (segment.limit() < HandHistoryWriter.HEADER_BYTES || segment.getInt(0) != HandHistoryWriter.MAGIC
+                    || segment.getInt(4) > HandHistoryWriter.VERSION || segment.getInt(8) != HandHistoryWriter.RECORD_BYTES) {
+                throw new IOException("Not a hand history segment: " + segmentPath);
+            }
+            WildCards wildCards = WildCards.OfCode(segment.getInt(12));
+            int end = segment.limit() - HandHistoryWriter.RECORD_BYTES;
+            for (int position = HandHistoryWriter.HEADER_BYTES; position <= end; position += HandHistoryWriter.RECORD_BYTES) {
+                byte type = segment.get(position);
+                if (type == 0) {
+                    break; // Unused end of the segment
+                }
+                summary.events++;
+                if (type == HandHistoryWriter.GAME_START) {
+                    summary.bestStrength = -1;
+                    summary.winnerMask = 0;
+                }
+                else if (type == HandHistoryWriter.SCORE) {
+                    int seat = segment.get(position + 1);
+                    int strength = wildCards.Evaluate(CardSet.Bit(segment.get(position + 4)) | CardSet.Bit(segment.get(position + 5))
+                            | CardSet.Bit(segment.get(position + 6)) | CardSet.Bit(segment.get(position + 7))
+                            | CardSet.Bit(segment.get(position + 8)));
+                    if (strength != segment.getInt(position + 12)) {
+                        summary.strengthMismatches++;
+                    }
+                    if (strength > summary.bestStrength) {
+                        summary.bestStrength = strength;
+                        summary.winnerMask = 1 << (seat - 1);
+                    }
+                    else if (strength == summary.bestStrength) {
+                        summary.winnerMask |= 1 << (seat - 1);
+                    }
+                }
+                else if (type == HandHistoryWriter.GAME_END) {
+                    summary.games++;
+                    if (summary.winnerMask != segment.getInt(position + 12)) {
+                        summary.winnerMismatches++;
+                    }
+                }
+            }
+        }
+    }
+
+    // Replays a history directory - argument: <directory> - exits with status 1 if anything doesn't verify
+    public static void main(String[] args) throws IOException {
+        Path historyDirectory = Paths.get(args.length > 0 ? args[0] : "history");
+        long startTime = System.nanoTime();
+        Summary summary = Replay(historyDirectory);
+        long elapsed = System.nanoTime() - startTime;
+        System.out.println(String.format("Replayed %d events, %d games in %d ms (%.1f million events per second)",
+                summary.events, summary.games, elapsed / 1000000, summary.events * 1000.0 / Math.max(1, elapsed)));
+        System.out.println("Strength mismatches: " + summary.strengthMismatches + ", winner mismatches: " + summary.winnerMismatches);
+        if (summary.strengthMismatches != 0 || summary.winnerMismatches != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package poker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Compact binary hand history - records every deal, draw and score of a PokerGame
+// Each event is one fixed-width 16 byte record appended to a memory mapped segment file. A segment is
+// mapped at its full size up front and filled in order, so appending is a handful of stores into the
+// mapping - no copying or formatting. The mapping is forced to disk every so many records or so much
+// time, and a new segment is started when one is full. Unused space at the end of a segment stays zero,
+// which is where readers stop.
+//
+// Segment header (16 bytes): magic, version, record size, wild cards (see WildCards.Code, 0 for a standard deck)
+// Record (16 bytes, little-endian):
+//   0      event type (GAME_START, DEAL, DRAW, SCORE, GAME_END)
+//   1      seat (player number, 0 for table events)
+//   2      GameStage ordinal
+//   3      flags - DRAW: mask of drawn card numbers, SCORE: 1 if the seat shares the pot, GAME_END: players
+//   4-8    five cards, one byte each (card index 0-51, jokers 52 and up)
+//   12-15  payload - SCORE: packed strength (see HandEvaluator), GAME_END: winner mask
+// GAME_START records hold the deck seed in bytes 4-11 and the game number in bytes 12-15 instead
+// A writer records games of one deck mode only - replay ranks every hand with the wild cards in the header.
+final class HandHistoryWriter implements GameListener, AutoCloseable {
+    // Segment format
+    static final int MAGIC = 0x4C484B50; // "PKHL"
+    static final int VERSION = 2; // Version 1 had no wild cards in the header (always 0)
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 16;
+
+    // Event types - 0 marks the unused end of a segment
+    static final byte GAME_START = 1;
+    static final byte DEAL = 2;
+    static final byte DRAW = 3;
+    static final byte SCORE = 4;
+    static final byte GAME_END = 5;
+
+    // Default segment size and sync policy
+    static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+    static final int DEFAULT_SYNC_RECORDS = 1 << 16;
+    static final long DEFAULT_SYNC_MILLIS = 1000;
+
+    // Holds the directory the segments are written to
+    private final Path directory;
+
+    // Holds the wild cards of the games recorded
+    private final WildCards wildCards;
+
+    // Holds the size of each segment file
+    private final long segmentBytes;
+
+    // Holds the sync policy - force the mapping after this many records or this much time
+    private final int syncRecords;
+    private final long syncNanos;
+
+    // Holds the open segment
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentNumber;
+
+    // Holds the records written and the time since the last sync
+    private int unsyncedRecords = 0;
+    private long lastSync = System.nanoTime();
+
+    // Constructor - records standard deck games to a new segment after any existing ones in the directory,
+    // with the default sizes
+    HandHistoryWriter(Path historyDirectory) throws IOException {
+        this(historyDirectory, WildCards.NONE);
+    }
+
+    // Constructor - records games dealt with the specified wild cards, with the default sizes
+    HandHistoryWriter(Path historyDirectory, WildCards gameWildCards) throws IOException {
+        this(historyDirectory, gameWildCards, DEFAULT_SEGMENT_BYTES, DEFAULT_SYNC_RECORDS, DEFAULT_SYNC_MILLIS);
+    }
+
+    // Constructor - records games dealt with the specified wild cards to a new segment after any existing
+    // ones in the directory
+    HandHistoryWriter(Path historyDirectory, WildCards gameWildCards, long bytesPerSegment, int recordsPerSync, long millisPerSync)
+            throws IOException {
+        if (bytesPerSegment < HEADER_BYTES + RECORD_BYTES || bytesPerSegment > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be " + (HEADER_BYTES + RECORD_BYTES) + " bytes to 2 GB");
+        }
+        directory = historyDirectory;
+        wildCards = gameWildCards;
+        segmentBytes = bytesPerSegment;
+        syncRecords = recordsPerSync;
+        syncNanos = TimeUnit.MILLISECONDS.toNanos(millisPerSync);
+        Files.createDirectories(directory);
+        List<Path> segments = Segments(directory);
+        segmentNumber = segments.isEmpty() ? -1 : SegmentNumber(segments.get(segments.size() - 1));
+        OpenNextSegment();
+    }
+
+    // Returns the segment files in a directory in the order they were written
+    static List<Path> Segments(Path historyDirectory) throws IOException {
+        List<Path> segments = new ArrayList<Path>();
+        if (Files.isDirectory(historyDirectory)) {
+            try (Stream<Path> files = Files.list(historyDirectory)) {
+                files.filter(file -> file.getFileName().toString().matches("history-\\d{6}\\.seg")).forEach(segments::add);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private static int SegmentNumber(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+        return Integer.parseInt(fileName.substring(8, 14));
+    }
+
+    // Syncs and releases the current segment (if any) and maps a new one
+    private void OpenNextSegment() throws IOException {
+        CloseSegment();
+        segmentNumber++;
+        Path segmentPath = directory.resolve(String.format("history-%06d.seg", segmentNumber));
+        channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).putInt(wildCards.Code());
+    }
+
+    private void CloseSegment() throws IOException {
+        if (segment != null) {
+            segment.force();
+            channel.close();
+            segment = null;
+        }
+    }
+
+    // Returns room for the next record, starting a new segment if the current one is full
+    private MappedByteBuffer Next() {
+        try {
+            if (segment.remaining() < RECORD_BYTES) {
+                OpenNextSegment();
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        unsyncedRecords++;
+        return segment;
+    }
+
+    // Appends a record holding a hand
+    private void PutHand(byte type, Hand hand, GameStage stage, int flags, int payload) {
+        MappedByteBuffer record = Next();
+        record.put(type).put((byte) hand.playerNumber).put((byte) stage.ordinal()).put((byte) flags);
+        for (int numCard = 0; numCard < 5; numCard++) {
+            record.put((byte) hand.CardIndex(numCard));
+        }
+        record.put((byte) 0).put((byte) 0).put((byte) 0).putInt(payload);
+    }
+
+    // Forces the mapping to disk if enough records or time have gone by since the last sync
+    private void SyncIfDue() {
+        long now = System.nanoTime();
+        if (unsyncedRecords >= syncRecords || now - lastSync >= syncNanos) {
+            segment.force();
+            unsyncedRecords = 0;
+            lastSync = now;
+        }
+    }
+
+    @Override
+    public void GameStarted(long gameNumber, long seed) {
+        Next().put(GAME_START).put((byte) 0).put((byte) GameStage.Deal.ordinal()).put((byte) 0).putLong(seed).putInt((int) gameNumber);
+    }
+
+    @Override
+    public void HandsDealt(List<Hand> hands) {
+        if (!hands.isEmpty() && hands.get(0).wildCards.Code() != wildCards.Code()) {
+            throw new IllegalArgumentException("Hand history records games with " + wildCards + ", game is dealt with "
+                    + hands.get(0).wildCards);
+        }
+        for (int numHand = 0; numHand < hands.size(); numHand++) {
+            PutHand(DEAL, hands.get(numHand), GameStage.Deal, 0, 0);
+        }
+    }
+
+    @Override
+    public void CardsDrawn(Hand hand, int discardMask) {
+        PutHand(DRAW, hand, GameStage.Draw, discardMask, 0);
+    }
+
+    @Override
+    public void HandsScored(List<Hand> hands, int winnerMask) {
+        for (int numHand = 0; numHand < hands.size(); numHand++) {
+            Hand hand = hands.get(numHand);
+            PutHand(SCORE, hand, GameStage.Score, (winnerMask >>> (hand.playerNumber - 1)) & 1, hand.strength);
+        }
+        Next().put(GAME_END).put((byte) 0).put((byte) GameStage.End.ordinal()).put((byte) hands.size())
+                .putLong(0).putInt(winnerMask);
+        SyncIfDue();
+    }
+
+    // Syncs and closes the current segment
+    @Override
+    public void close() throws IOException {
+        CloseSegment();
+    }
+
+    // Records bot games - arguments: <directory> [games] [players] [jokers] [wild faces...]
+    // Game n is played with seed n, so any recorded game can be dealt again from its seed
+    public static void main(String[] args) throws IOException {
+        Path historyDirectory = Paths.get(args.length > 0 ? args[0] : "history");
+        long numGames = args.length > 1 ? Long.parseLong(args[1]) : 1000000;
+        int numPlayers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int numJokers = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        CardFace[] wildFaces = new CardFace[Math.max(0, args.length - 4)];
+        for (int numFace = 0; numFace < wildFaces.length; numFace++) {
+            wildFaces[numFace] = CardFace.valueOf(args[numFace + 4]);
+        }
+        WildCards wildCards = WildCards.Of(numJokers, wildFaces);
+        long startTime = System.nanoTime();
+        try (HandHistoryWriter writer = new HandHistoryWriter(historyDirectory, wildCards)) {
+            PlayerStrategy[] strategies = new PlayerStrategy[numPlayers];
+            Arrays.fill(strategies, BotStrategy.INSTANCE);
+            PokerGame game = new PokerGame(new CardDeck(0, wildCards), strategies, writer);
+            for (long seed = 0; seed < numGames; seed++) {
+                game.Play(seed);
+            }
+        }
+        System.out.println(String.format("Recorded %d games to %s in %d ms", numGames, historyDirectory,
+                (System.nanoTime() - startTime) / 1000000));
+    }
+}
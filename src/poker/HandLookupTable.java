@@ -0,0 +1,154 @@
+package poker;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Precomputed table holding the packed strength (see HandEvaluator) of every five card hand
+// Hands are keyed by a perfect hash - the combinatorial index C(c0,1) + C(c1,2) + ... + C(c4,5)
+// of their card indices in ascending order - so each of the 2,598,960 hands has its own slot.
+// The table is built once and written to a binary file, then memory mapped when loaded so it
+// lives in the OS page cache instead of on the JVM heap and loading costs next to nothing.
+final class HandLookupTable {
+    // Number of distinct five card hands - C(52,5)
+    static final int NUM_HANDS = 2598960;
+
+    // File header - magic number followed by the number of entries
+    private static final int MAGIC = 0x504B4854; // "PKHT"
+    private static final int HEADER_BYTES = 8;
+
+    // Binomial coefficients C(n,k) for n = 0-52 and k = 0-5
+    private static final int[][] CHOOSE = new int[HandEvaluator.NUM_CARDS + 1][6];
+    static {
+        for (int n = 0; n <= HandEvaluator.NUM_CARDS; n++) {
+            CHOOSE[n][0] = 1;
+            for (int k = 1; k <= 5 && k <= n; k++) {
+                CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + (k < n ? CHOOSE[n - 1][k] : 0);
+            }
+        }
+    }
+
+    // Holds the mapped strengths, one int per hand index
+    private final IntBuffer strengths;
+
+    private HandLookupTable(IntBuffer tableStrengths) {
+        strengths = tableStrengths;
+    }
+
+    // Returns the perfect hash index (0 to NUM_HANDS - 1) of five distinct card indices, in any order
+    static int Index(int c0, int c1, int c2, int c3, int c4) {
+        return Index((1L << c0) | (1L << c1) | (1L << c2) | (1L << c3) | (1L << c4));
+    }
+
+    // Returns the perfect hash index (0 to NUM_HANDS - 1) of a CardSet mask of five cards
+    static int Index(long cardMask) {
+        if (Long.bitCount(cardMask) != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 distinct cards");
+        }
+        // Walk the set bits in ascending order of card index
+        int index = 0;
+        for (int k = 1; k <= 5; k++) {
+            index += CHOOSE[Long.numberOfTrailingZeros(cardMask)][k];
+            cardMask &= cardMask - 1;
+        }
+        return index;
+    }
+
+    // Returns the packed strength of five card indices with a single table lookup
+    int Lookup(int c0, int c1, int c2, int c3, int c4) {
+        return strengths.get(Index(c0, c1, c2, c3, c4));
+    }
+
+    // Returns the packed strength of a CardSet mask of five cards with a single table lookup
+    int Lookup(long cardMask) {
+        return strengths.get(Index(cardMask));
+    }
+
+    // Returns the packed strength of a five card hand with a single table lookup
+    int Lookup(List<Card> cards) {
+        if (cards.size() != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be ranked, found " + cards.size());
+        }
+        return Lookup(HandEvaluator.CardIndex(cards.get(0)), HandEvaluator.CardIndex(cards.get(1)),
+                HandEvaluator.CardIndex(cards.get(2)), HandEvaluator.CardIndex(cards.get(3)),
+                HandEvaluator.CardIndex(cards.get(4)));
+    }
+
+    // Maps a previously built table file read-only
+    static HandLookupTable Load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_BYTES + 4L * NUM_HANDS) {
+                throw new IOException("Not a hand lookup table (unexpected size): " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != NUM_HANDS) {
+                throw new IOException("Not a hand lookup table (bad header): " + path);
+            }
+            buffer.position(HEADER_BYTES);
+            return new HandLookupTable(buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
+        }
+    }
+
+    // Evaluates every five card hand, checks the count of each HandRank against the expected
+    // frequencies and writes the table to the specified file
+    // The table is written to a temporary file first so a failed build never leaves a bad table behind
+    static void Build(Path path) throws IOException {
+        Path absolutePath = path.toAbsolutePath();
+        Path tempPath = Files.createTempFile(absolutePath.getParent(), "hands", ".tmp");
+        try {
+            long[] frequencies = new long[HandRank.values().length];
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + 4L * NUM_HANDS);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, NUM_HANDS);
+                // Cards in ascending order - the loops visit hand indices in ascending order
+                for (int c4 = 4; c4 < HandEvaluator.NUM_CARDS; c4++) {
+                    for (int c3 = 3; c3 < c4; c3++) {
+                        for (int c2 = 2; c2 < c3; c2++) {
+                            for (int c1 = 1; c1 < c2; c1++) {
+                                for (int c0 = 0; c0 < c1; c0++) {
+                                    int strength = HandEvaluator.Evaluate(c0, c1, c2, c3, c4);
+                                    int index = CHOOSE[c0][1] + CHOOSE[c1][2] + CHOOSE[c2][3] + CHOOSE[c3][4] + CHOOSE[c4][5];
+                                    buffer.putInt(HEADER_BYTES + 4 * index, strength);
+                                    frequencies[strength >>> HandEvaluator.RANK_SHIFT]++;
+                                }
+                            }
+                        }
+                    }
+                }
+                buffer.force();
+            }
+            // Check the table against the known frequency of each rank
+            for (int rank = 0; rank < frequencies.length; rank++) {
+                if (frequencies[rank] != HandEvaluator.FIVE_CARD_FREQUENCIES[rank]) {
+                    throw new IllegalStateException("Lookup table has " + frequencies[rank] + " hands of rank "
+                            + HandRank.values()[rank] + ", expected " + HandEvaluator.FIVE_CARD_FREQUENCIES[rank]);
+                }
+            }
+            Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    // Builds the table file - takes the output path as the only argument (defaults to hands.tbl)
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : "hands.tbl");
+        long startTime = System.nanoTime();
+        Build(path);
+        System.out.println("Built " + NUM_HANDS + " hands into " + path + " in "
+                + (System.nanoTime() - startTime) / 1000000 + " ms");
+    }
+}
@@ -0,0 +1,5 @@
+package poker;
+
+// Hand ranks, in ascending order of rank
+// FiveOfAKind can only be made with wild cards (see WildCards) - it comes last so the other ordinals never change
+enum HandRank { Unranked, Nothing, Pair, TwoPair, ThreeOfAKind, Straight, Flush, FullHouse, FourOfAKind, StraightFlush, RoyalFlush, FiveOfAKind }
@@ -0,0 +1,213 @@
+package poker;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// High and low evaluation of a five card hand in one pass, for lowball and hi-lo split games
+// The cards' suit masks are read once and added as bit-sliced counters (as in BestHandEvaluator), giving the
+// faces held once, twice, three and four times. Every ranking is built from those same masks:
+//   High          - the standard ranking, the same strength HandEvaluator gives
+//   Ace-to-Five   - Ace plays low, straights and flushes don't count - the face masks are rotated one face so
+//                   the Ace sits below the Two, then ranked by pairs and faces only (5-4-3-2-A is the best low)
+//   Deuce-to-Seven - Ace plays high and straights and flushes count - the high ranking, except that A-2-3-4-5
+//                   is no straight (7-5-4-3-2 is the best low)
+// Low keys are the low hand's packed strength inverted, so for every key a larger value is a better hand and
+// keys compare directly, like strengths. Keys fit in 24 bits.
+//
+// Usage: HiLoEvaluator   ranks every five card hand three ways and checks the number of distinct keys
+final class HiLoEvaluator {
+    // Positions of the keys written by Evaluate
+    static final int HIGH = 0;
+    static final int ACE_TO_FIVE = 1;
+    static final int DEUCE_TO_SEVEN = 2;
+    static final int NUM_KEYS = 3;
+
+    // Mask of the 24 bits a key is held in
+    private static final int KEY_MASK = 0xFFFFFF;
+
+    // Face mask of an Ace-low straight (Ace, Two, Three, Four, Five)
+    private static final int WHEEL_MASK = 0x100F;
+
+    // Lowest Ace-to-Five key that qualifies for the low half of an eight-or-better hi-lo pot (8-7-6-5-4)
+    static final int EIGHT_OR_BETTER = AceToFiveLow(CardSet.Bit(HandEvaluator.CardIndex(CardFace.Eight, CardSuit.Club))
+            | CardSet.Bit(HandEvaluator.CardIndex(CardFace.Seven, CardSuit.Diamond))
+            | CardSet.Bit(HandEvaluator.CardIndex(CardFace.Six, CardSuit.Heart))
+            | CardSet.Bit(HandEvaluator.CardIndex(CardFace.Five, CardSuit.Spade))
+            | CardSet.Bit(HandEvaluator.CardIndex(CardFace.Four, CardSuit.Club)));
+
+    // Number of distinct keys of each ranking across all five card hands
+    static final int DISTINCT_HIGH = 7462;
+    static final int DISTINCT_ACE_TO_FIVE = 6175;
+    static final int DISTINCT_DEUCE_TO_SEVEN = 7462;
+
+    private HiLoEvaluator() {}
+
+    // Writes the high, Ace-to-Five and Deuce-to-Seven keys of a five card hand (a CardSet mask) to
+    // keys[offset + HIGH], keys[offset + ACE_TO_FIVE] and keys[offset + DEUCE_TO_SEVEN]
+    static void Evaluate(long cardMask, int[] keys, int offset) {
+        CheckHand(cardMask);
+        int s0 = CardSet.SuitMask(cardMask, 0);
+        int s1 = CardSet.SuitMask(cardMask, 1);
+        int s2 = CardSet.SuitMask(cardMask, 2);
+        int s3 = CardSet.SuitMask(cardMask, 3);
+        int faceMask = s0 | s1 | s2 | s3;
+        int quads = s0 & s1 & s2 & s3;
+        int countBit0 = s0 ^ s1 ^ s2 ^ s3;
+        int countBit1 = ((s0 & s1) | (s2 & s3) | ((s0 ^ s1) & (s2 ^ s3))) & ~quads;
+        int trips = countBit0 & countBit1;
+        int pairs = ~countBit0 & countBit1;
+
+        // Five distinct faces are the only hands that can be straights or flushes
+        int highStrength;
+        int deuceToSeven;
+        if (Integer.bitCount(faceMask) == 5) {
+            boolean flush = faceMask == s0 || faceMask == s1 || faceMask == s2 || faceMask == s3;
+            int nothing = HandEvaluator.Pack(flush ? HandRank.Flush : HandRank.Nothing, HandEvaluator.Descending(faceMask), 5);
+            boolean straight = (faceMask >>> Integer.numberOfTrailingZeros(faceMask)) == 0x1F;
+            if (straight) {
+                deuceToSeven = StraightStrength(faceMask, flush);
+                highStrength = deuceToSeven;
+            }
+            else if (faceMask == WHEEL_MASK) {
+                deuceToSeven = nothing; // Ace only plays high - no straight
+                highStrength = StraightStrength(faceMask, flush);
+            }
+            else {
+                deuceToSeven = nothing;
+                highStrength = nothing;
+            }
+        }
+        else {
+            highStrength = GroupStrength(faceMask, quads, trips, pairs);
+            deuceToSeven = highStrength;
+        }
+
+        keys[offset + HIGH] = highStrength;
+        keys[offset + ACE_TO_FIVE] = ~GroupStrength(AceLow(faceMask), AceLow(quads), AceLow(trips), AceLow(pairs)) & KEY_MASK;
+        keys[offset + DEUCE_TO_SEVEN] = ~deuceToSeven & KEY_MASK;
+    }
+
+    // Returns the Ace-to-Five key of a five card hand - creates a small array, so bulk callers use Evaluate
+    static int AceToFiveLow(long cardMask) {
+        int[] keys = new int[NUM_KEYS];
+        Evaluate(cardMask, keys, 0);
+        return keys[ACE_TO_FIVE];
+    }
+
+    // Returns the Deuce-to-Seven key of a five card hand - creates a small array, so bulk callers use Evaluate
+    static int DeuceToSevenLow(long cardMask) {
+        int[] keys = new int[NUM_KEYS];
+        Evaluate(cardMask, keys, 0);
+        return keys[DEUCE_TO_SEVEN];
+    }
+
+    // Returns the packed strength of the low hand held in a low key - its rank and faces (in Ace-to-Five
+    // strengths the faces are rotated, 0 for the Ace up to 12 for the King)
+    static int LowStrength(int lowKey) {
+        return ~lowKey & KEY_MASK;
+    }
+
+    private static void CheckHand(long cardMask) {
+        if (Long.bitCount(cardMask) != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be ranked, found " + Long.bitCount(cardMask));
+        }
+        if ((cardMask & ~CardSet.FULL_MASK) != 0) {
+            throw new IllegalArgumentException("Hi-lo hands can't hold jokers");
+        }
+    }
+
+    // Returns the strength of a straight (or straight flush) held in a face mask
+    private static int StraightStrength(int faceMask, boolean flush) {
+        int straightHigh = faceMask == WHEEL_MASK ? CardFace.Five.ordinal() : 31 - Integer.numberOfLeadingZeros(faceMask);
+        if (flush) {
+            return HandEvaluator.Pack(straightHigh == CardFace.Ace.ordinal() ? HandRank.RoyalFlush : HandRank.StraightFlush, straightHigh, 1);
+        }
+        return HandEvaluator.Pack(HandRank.Straight, straightHigh, 1);
+    }
+
+    // Returns the strength of five cards ranked by their face groups only - straights and flushes aside
+    private static int GroupStrength(int faceMask, int quads, int trips, int pairs) {
+        if (quads != 0) {
+            int quadFace = BestHandEvaluator.HighestFace(quads);
+            return HandEvaluator.Pack(HandRank.FourOfAKind, (quadFace << 4) | HandEvaluator.Descending(faceMask & ~quads), 2);
+        }
+        if (trips != 0) {
+            int tripFace = BestHandEvaluator.HighestFace(trips);
+            if (pairs != 0) {
+                return HandEvaluator.Pack(HandRank.FullHouse, (tripFace << 4) | BestHandEvaluator.HighestFace(pairs), 2);
+            }
+            return HandEvaluator.Pack(HandRank.ThreeOfAKind, (tripFace << 8) | HandEvaluator.Descending(faceMask & ~trips), 3);
+        }
+        if (Integer.bitCount(pairs) == 2) {
+            int highPair = BestHandEvaluator.HighestFace(pairs);
+            int lowPair = Integer.numberOfTrailingZeros(pairs);
+            return HandEvaluator.Pack(HandRank.TwoPair, (highPair << 8) | (lowPair << 4) | HandEvaluator.Descending(faceMask & ~pairs), 3);
+        }
+        if (pairs != 0) {
+            return HandEvaluator.Pack(HandRank.Pair, (BestHandEvaluator.HighestFace(pairs) << 12) | HandEvaluator.Descending(faceMask & ~pairs), 4);
+        }
+        return HandEvaluator.Pack(HandRank.Nothing, HandEvaluator.Descending(faceMask), 5);
+    }
+
+    // Rotates a face mask one face up, so the Ace (bit 12) becomes the lowest face (bit 0)
+    private static int AceLow(int faceMask) {
+        return ((faceMask << 1) | (faceMask >>> (HandEvaluator.NUM_FACES - 1))) & 0x1FFF;
+    }
+
+    public static void main(String[] args) {
+        // Every hand as a mask, in the order HandLookupTable indexes them
+        long[] masks = new long[HandLookupTable.NUM_HANDS];
+        int numHands = 0;
+        for (int c4 = 4; c4 < HandEvaluator.NUM_CARDS; c4++) {
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            masks[numHands++] = CardSet.Bit(c0) | CardSet.Bit(c1) | CardSet.Bit(c2) | CardSet.Bit(c3) | CardSet.Bit(c4);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Timed against ranking high only with HandEvaluator - each twice, the first run to warm up
+        int[] keys = new int[masks.length * NUM_KEYS];
+        int[] strengths = new int[masks.length];
+        for (int pass = 0; pass < 2; pass++) {
+            long startTime = System.nanoTime();
+            IntStream.range(0, masks.length).parallel().forEach(hand -> Evaluate(masks[hand], keys, hand * NUM_KEYS));
+            long keysElapsed = System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            IntStream.range(0, masks.length).parallel().forEach(hand -> strengths[hand] = HandEvaluator.Evaluate(masks[hand]));
+            long highElapsed = System.nanoTime() - startTime;
+            if (pass == 1) {
+                System.out.println(String.format("High and both low keys: %.1f ns per hand, high only (HandEvaluator): %.1f ns per hand",
+                        (double) keysElapsed / masks.length, (double) highElapsed / masks.length));
+            }
+        }
+        long highMismatches = IntStream.range(0, masks.length).filter(hand -> keys[hand * NUM_KEYS + HIGH] != strengths[hand]).count();
+
+        Set<Integer> high = new HashSet<Integer>();
+        Set<Integer> aceToFive = new HashSet<Integer>();
+        Set<Integer> deuceToSeven = new HashSet<Integer>();
+        int eightOrBetter = 0;
+        for (int hand = 0; hand < masks.length; hand++) {
+            high.add(keys[hand * NUM_KEYS + HIGH]);
+            aceToFive.add(keys[hand * NUM_KEYS + ACE_TO_FIVE]);
+            deuceToSeven.add(keys[hand * NUM_KEYS + DEUCE_TO_SEVEN]);
+            if (keys[hand * NUM_KEYS + ACE_TO_FIVE] >= EIGHT_OR_BETTER) {
+                eightOrBetter++;
+            }
+        }
+        boolean matches = highMismatches == 0 && high.size() == DISTINCT_HIGH && aceToFive.size() == DISTINCT_ACE_TO_FIVE
+                && deuceToSeven.size() == DISTINCT_DEUCE_TO_SEVEN && eightOrBetter == 56 * 1024;
+        System.out.println(String.format("High keys differing from HandEvaluator: %d", highMismatches));
+        System.out.println(String.format("Distinct keys: high %d, Ace-to-Five %d, Deuce-to-Seven %d", high.size(), aceToFive.size(), deuceToSeven.size()));
+        System.out.println(String.format("Eight-or-better lows: %d", eightOrBetter));
+        if (!matches) {
+            System.out.println("Keys do not match the expected counts");
+            System.exit(1);
+        }
+    }
+}
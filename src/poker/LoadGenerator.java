@@ -0,0 +1,141 @@
+package poker;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Load generator for GameServer - fills a number of tables with bot players and measures the rate of
+// completed games and the latency of draw actions (from sending DRAW to receiving DRAWN)
+// Every bot runs on its own thread (virtual when available) with a blocking socket, like a real client
+final class LoadGenerator {
+    private LoadGenerator() {}
+
+    // Results of one bot - games seen and draw latencies in nanoseconds
+    private static final class BotResult {
+        long games;
+        long[] latencies = new long[1024];
+        int numLatencies;
+
+        void AddLatency(long latency) {
+            if (numLatencies == latencies.length) {
+                latencies = Arrays.copyOf(latencies, numLatencies * 2);
+            }
+            latencies[numLatencies++] = latency;
+        }
+    }
+
+    // Plays as one bot at the specified table until the deadline, then quits
+    private static BotResult RunBot(String host, int port, String tableName, long deadline) {
+        BotResult result = new BotResult();
+        Hand hand = new Hand();
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+            Send(writer, "JOIN " + tableName);
+            long drawSent = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("HAND ")) {
+                    if (System.nanoTime() >= deadline) {
+                        Send(writer, "QUIT");
+                        break;
+                    }
+                    ReadHand(line, 5, hand);
+                    int drawMask = BotStrategy.INSTANCE.ChooseDiscards(0, hand);
+                    StringBuilder command = new StringBuilder("DRAW ");
+                    for (int drawCard = 0; drawCard < 5; drawCard++) {
+                        if ((drawMask & (1 << drawCard)) != 0) {
+                            command.append(drawCard + 1).append(',');
+                        }
+                    }
+                    drawSent = System.nanoTime();
+                    Send(writer, command.toString());
+                }
+                else if (line.startsWith("DRAWN ")) {
+                    result.AddLatency(System.nanoTime() - drawSent);
+                }
+                else if (line.startsWith("RESULT ")) {
+                    result.games++;
+                }
+                else if (line.equals("CLOSED") || line.startsWith("ERROR ")) {
+                    break;
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    private static void Send(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    // Reads the card codes that start at the specified offset of a line into a hand
+    private static void ReadHand(String line, int offset, Hand hand) {
+        hand.Clear();
+        for (int numCard = 0; numCard < 5; numCard++) {
+            hand.Add(CardCodes.Parse(line, offset + numCard * 3));
+        }
+    }
+
+    // Runs the load - arguments: [tables] [players per table] [seconds] [port] [host]
+    // Players per table must match the server's setting
+    public static void main(String[] args) throws Exception {
+        int numTables = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PLAYERS;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int port = args.length > 3 ? Integer.parseInt(args[3]) : GameServer.DEFAULT_PORT;
+        String host = args.length > 4 ? args[4] : "127.0.0.1";
+
+        ExecutorService executor = VirtualThreads.NewPerTaskExecutor();
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<BotResult>> bots = new ArrayList<Future<BotResult>>();
+        for (int table = 0; table < numTables; table++) {
+            String tableName = "load-" + table;
+            for (int player = 0; player < numPlayers; player++) {
+                bots.add(executor.submit(() -> RunBot(host, port, tableName, deadline)));
+            }
+        }
+
+        long playerGames = 0;
+        long[] latencies = new long[0];
+        int numLatencies = 0;
+        for (Future<BotResult> bot : bots) {
+            BotResult result = bot.get();
+            playerGames += result.games;
+            latencies = Arrays.copyOf(latencies, numLatencies + result.numLatencies);
+            System.arraycopy(result.latencies, 0, latencies, numLatencies, result.numLatencies);
+            numLatencies += result.numLatencies;
+        }
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        long games = playerGames / numPlayers;
+        System.out.println(String.format("%d tables x %d players, %d games in %.1f s: %.0f games per second (%s)",
+                numTables, numPlayers, games, elapsedSeconds, games / elapsedSeconds,
+                VirtualThreads.Available() ? "virtual threads" : "platform threads"));
+        if (numLatencies > 0) {
+            System.out.println(String.format("Draw latency: p50 %.1f us, p99 %.1f us, max %.1f us (%d draws)",
+                    latencies[numLatencies / 2] / 1e3, latencies[(int) (numLatencies * 0.99)] / 1e3,
+                    latencies[numLatencies - 1] / 1e3, numLatencies));
+        }
+    }
+}
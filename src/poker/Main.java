@@ -0,0 +1,167 @@
+package poker;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Collections;
+import java.util.Scanner;
+
+public class Main {
+    // Holds the console input - created once and shared by every prompt
+    private static final Scanner input = new Scanner(System.in);
+
+    // Returns the number of players based on input
+    private static int GetPlayers() {
+        // Holds the input as a string
+        String getInput;
+        // Holds the input coverted to an int
+        int inputResult = 0;
+        // Used by loop to continue to prompt until proper input
+        boolean valid = false;
+        do
+        {
+            System.out.print("Please input number of players (2-7): ");
+            // Get user input
+            getInput = input.nextLine();
+            System.out.println("");
+            try {
+                inputResult = Integer.parseInt(getInput);
+                if (inputResult >= 2 && inputResult <= 7) { // Only allow an int between 2 and 7
+                    valid = true;
+                }
+            }
+            catch (NumberFormatException e) {}
+        } while (!valid);
+        return inputResult;
+    }
+
+    // Returns a mask of the cards chosen from players hand for the draw (bit n set means card number n+1)
+    private static int GetDrawCards() {
+        // Holds input as a string
+        String getInput;
+        // Holds mask to be returned (start empty)
+        int returnDraw = 0;
+        // Get input
+        getInput = input.nextLine();
+        // Convert input to array of strings, split using ',' character
+        String[] inputItems = getInput.split("[,]", -1);
+        // Loop through array results
+        for (int numItem = 0; numItem < inputItems.length; numItem++) {
+            // Holds int value of element in the array
+            int itemVal = 0;
+            try {
+                itemVal = Integer.parseInt(inputItems[numItem].trim());
+                if (itemVal >= 1 && itemVal <= 5) { // Only allow valid card numbers (1-5) - others are ignored
+                    returnDraw |= 1 << (itemVal - 1);
+                }
+            }
+            catch (NumberFormatException e) {}
+        }
+        return returnDraw;
+    }
+
+    // Method to sort hands descending by strength (rank, then every tiebreak card), and then by player number
+    // (package-private so the benchmarks can call it)
+    static List<Hand> OrderHands(List<Hand> passHands) {
+        Collections.sort(passHands, new Comparator<Hand>() { // Descending
+            public int compare(Hand h1, Hand h2) {
+                // Packed keys hold strength and player number, so a single compare covers every tiebreak
+                return Long.compare(Showdown.Key(h2), Showdown.Key(h1));
+            }});
+        return passHands;
+    }
+
+    // Draw strategy for a player at the console - redisplays the hand, suggests a draw and asks for
+    // the card numbers to draw
+    private static class ConsolePlayer implements PlayerStrategy {
+        // Solves the best draw for each hand - shown as a hint at the draw
+        private final DrawSolver drawSolver = new DrawSolver();
+
+        @Override
+        public int ChooseDiscards(int playerNumber, Hand hand) {
+            System.out.println("Player " + String.valueOf(playerNumber) + " hand:");
+            System.out.println(hand.DisplayHand());
+            // Suggest the draw with the best expected rank - the solver only knows the standard deck, so
+            // there is no hint in games with wild cards
+            if (hand.wildCards.Code() == 0) {
+                DrawSolver.Solution solution = drawSolver.Solve(hand.cards);
+                System.out.println("Suggested draw: " + DrawSolver.Solution.CardNumbers(DrawSolver.Solution.DiscardMask(solution.BestHold())));
+            }
+            System.out.println("\nEnter the cards you would like to use in the draw");
+            System.out.print("(card numbers seperated by commas, hit enter for none): ");
+            return GetDrawCards();
+        }
+    }
+
+    // Prints the progress of the game to the console
+    private static class ConsoleListener implements GameListener {
+        @Override
+        public void StageStarted(GameStage stage) {
+            if (stage == GameStage.Draw) {
+                System.out.println("\nNow time to choose draw\n");
+            }
+        }
+
+        @Override
+        public void HandsDealt(List<Hand> hands) {
+            System.out.println("\nAll hands are dealt\n");
+            // Display hands for each player
+            for (int numPlayer = 1; numPlayer <= hands.size(); numPlayer++) {
+                System.out.println("Player " + String.valueOf(numPlayer) + " hand:");
+                System.out.println(hands.get(numPlayer - 1).DisplayHand());
+            }
+        }
+
+        @Override
+        public void CardsDrawn(Hand hand, int discardMask) {
+            System.out.println("");
+        }
+
+        @Override
+        public void HandsScored(List<Hand> hands, int winnerMask) {
+            System.out.println("\nFinal hands of players\n");
+            // Redisplay hand for each player so that they see the results of the previous draw
+            // and can see both the rank of the hand and what the "high" card was for that rank
+            for (int numPlayer = 1; numPlayer <= hands.size(); numPlayer++) {
+                System.out.println("Player " + String.valueOf(numPlayer) + " hand:");
+                System.out.println(hands.get(numPlayer - 1).DisplayHand());
+                System.out.println("High Card: " + hands.get(numPlayer - 1).highCard.toString());
+                System.out.println("RANK: " + hands.get(numPlayer - 1).rank.toString() + "\n");
+            }
+            // Order a copy of the hands based on descending strength (rank and every tiebreak card), then player number
+            List<Hand> orderedHands = OrderHands(new ArrayList<Hand>(hands));
+
+            // Display winner player(s) - hands of equal strength split the pot - and the winning hand rank and high card
+            if (Integer.bitCount(winnerMask) == 1) {
+                System.out.println("Winner is player " + String.valueOf(orderedHands.get(0).playerNumber));
+            }
+            else {
+                String splitPlayers = "";
+                for (int winners = winnerMask; winners != 0; winners &= winners - 1) {
+                    splitPlayers += (splitPlayers.isEmpty() ? "" : ", ") + String.valueOf(Integer.numberOfTrailingZeros(winners) + 1);
+                }
+                System.out.println("Pot is split between players " + splitPlayers);
+            }
+            System.out.println("with a rank of: " + orderedHands.get(0).rank.toString() + ", high card: " + orderedHands.get(0).highCard.toString());
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("Welcome to Poker!\n");
+
+        // Get number of players
+        int numPlayers = GetPlayers();
+
+        // Every player draws at the console
+        PlayerStrategy[] players = new PlayerStrategy[numPlayers];
+        Arrays.fill(players, new ConsolePlayer());
+
+        // The engine runs the Deal, Draw, Score and End stages - the console only prompts and prints
+        PokerGame game = new PokerGame(new CardDeck(), players, new ConsoleListener());
+        game.Play();
+
+        // End of game
+        System.out.println("\nThanks for playing!");
+    }
+}
@@ -0,0 +1,332 @@
+package poker;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Hot path instrumentation - time spent in each GameStage, CardDeck.Shuffle/DealCard/DrawCard and Hand.GetRank,
+// plus the number of hands ranked at each HandRank
+// Switched on with -Dpoker.metrics=true. ENABLED is a static final constant, so when it is off the JIT
+// removes every "if (Metrics.ENABLED)" block and the instrumented code runs exactly as if it wasn't there.
+// When it is on, counts are LongAdders (striped per thread, so recording never contends on one cache line)
+// and latencies go into log-linear histograms: 8 buckets per power of two, so a recorded value is off by at
+// most 12.5% whatever its size. Everything is published as JMX MXBeans under the "poker" domain and can be
+// dumped as a text snapshot - add -Dpoker.metrics.dump=true to print one to standard error at exit.
+final class Metrics {
+    // Set to record metrics
+    static final boolean ENABLED = Boolean.getBoolean("poker.metrics");
+
+    // Timers of the game stages that do work, indexed by GameStage ordinal - End does nothing, so it has no
+    // timer (it is the last stage, so every other ordinal is in range)
+    static final Timer[] STAGES = StageTimers();
+
+    // Timers of the deck and hand operations
+    static final Timer SHUFFLE = new Timer("Shuffle");
+    static final Timer DEAL_CARD = new Timer("DealCard");
+    static final Timer DRAW_CARD = new Timer("DrawCard");
+    static final Timer GET_RANK = new Timer("GetRank");
+
+    // Number of hands ranked at each HandRank, indexed by ordinal
+    static final RankCounts RANKS = new RankCounts();
+
+    // Cached enum values - values() clones its array on every call
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    static {
+        if (ENABLED) {
+            Register();
+            if (Boolean.getBoolean("poker.metrics.dump")) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.print(Snapshot())));
+            }
+        }
+    }
+
+    private Metrics() {}
+
+    private static Timer[] StageTimers() {
+        GameStage[] stages = GameStage.values();
+        Timer[] timers = new Timer[GameStage.End.ordinal()];
+        for (int stage = 0; stage < timers.length; stage++) {
+            timers[stage] = new Timer("Stage." + stages[stage]);
+        }
+        return timers;
+    }
+
+    // Returns the time to start timing from - 0 when metrics are off, so the clock isn't read
+    static long Now() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    // Attributes of a timer published over JMX - times are in nanoseconds
+    public interface TimerMXBean {
+        long getCount();
+        long getTotalNanos();
+        double getMeanNanos();
+        long getP50Nanos();
+        long getP90Nanos();
+        long getP99Nanos();
+        long getP999Nanos();
+        long getMaxNanos();
+        void reset();
+    }
+
+    // Attributes of the hand rank counts published over JMX
+    public interface RankCountsMXBean {
+        Map<String, Long> getCounts();
+        long getTotal();
+        void reset();
+    }
+
+    // Count and latency histogram of one operation
+    static final class Timer implements TimerMXBean {
+        // Sub-buckets per power of two (as a number of bits) and number of buckets to cover every long
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int NUM_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final String name;
+        private final LongAdder[] buckets;
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Timer(String timerName) {
+            name = timerName;
+            // Buckets are only needed when recording - a disabled timer holds nothing
+            buckets = new LongAdder[ENABLED ? NUM_BUCKETS : 0];
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                buckets[bucket] = new LongAdder();
+            }
+        }
+
+        String Name() {
+            return name;
+        }
+
+        // Records the time since a start time from Metrics.Now()
+        void RecordSince(long startTime) {
+            Record(System.nanoTime() - startTime);
+        }
+
+        // Records a duration in nanoseconds
+        void Record(long nanos) {
+            if (nanos < 0) {
+                nanos = 0;
+            }
+            buckets[Bucket(nanos)].increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        // Returns the bucket of a value - values below 8 have a bucket each, then each power of two
+        // is split into 8 equal buckets
+        static int Bucket(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        // Returns the largest value that falls into a bucket
+        static long BucketHighest(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+            return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        // Returns the value at or below which the specified fraction of recorded values fall
+        long Percentile(double fraction) {
+            long[] counts = new long[buckets.length];
+            long count = 0;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                counts[bucket] = buckets[bucket].sum();
+                count += counts[bucket];
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(fraction * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(BucketHighest(bucket), maxNanos.get());
+                }
+            }
+            return maxNanos.get();
+        }
+
+        @Override
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        @Override
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        @Override
+        public double getMeanNanos() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) totalNanos.sum() / count;
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return Percentile(0.5);
+        }
+
+        @Override
+        public long getP90Nanos() {
+            return Percentile(0.9);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return Percentile(0.99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return Percentile(0.999);
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        @Override
+        public void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+    }
+
+    // Number of hands ranked at each HandRank
+    static final class RankCounts implements RankCountsMXBean {
+        private final LongAdder[] counts = new LongAdder[HandRank.values().length];
+
+        RankCounts() {
+            for (int rank = 0; rank < counts.length; rank++) {
+                counts[rank] = new LongAdder();
+            }
+        }
+
+        void Increment(HandRank rank) {
+            counts[rank.ordinal()].increment();
+        }
+
+        long Count(HandRank rank) {
+            return counts[rank.ordinal()].sum();
+        }
+
+        @Override
+        public Map<String, Long> getCounts() {
+            Map<String, Long> rankCounts = new LinkedHashMap<String, Long>();
+            for (int rank = 0; rank < counts.length; rank++) {
+                rankCounts.put(HAND_RANKS[rank].toString(), counts[rank].sum());
+            }
+            return rankCounts;
+        }
+
+        @Override
+        public long getTotal() {
+            long total = 0;
+            for (LongAdder count : counts) {
+                total += count.sum();
+            }
+            return total;
+        }
+
+        @Override
+        public void reset() {
+            for (LongAdder count : counts) {
+                count.reset();
+            }
+        }
+    }
+
+    // Returns every timer - stages first
+    static Timer[] Timers() {
+        Timer[] timers = new Timer[STAGES.length + 4];
+        System.arraycopy(STAGES, 0, timers, 0, STAGES.length);
+        timers[STAGES.length] = SHUFFLE;
+        timers[STAGES.length + 1] = DEAL_CARD;
+        timers[STAGES.length + 2] = DRAW_CARD;
+        timers[STAGES.length + 3] = GET_RANK;
+        return timers;
+    }
+
+    // Publishes the timers and rank counts on the platform MBean server
+    private static void Register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Timer timer : Timers()) {
+                server.registerMBean(timer, new ObjectName("poker:type=Timer,name=" + timer.Name()));
+            }
+            server.registerMBean(RANKS, new ObjectName("poker:type=HandRanks"));
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics MBeans", e);
+        }
+    }
+
+    // Clears every timer and count
+    static void Reset() {
+        for (Timer timer : Timers()) {
+            timer.reset();
+        }
+        RANKS.reset();
+    }
+
+    // Returns a text table of every timer and count
+    static String Snapshot() {
+        StringBuilder snapshot = new StringBuilder();
+        snapshot.append(String.format("%-14s %12s %10s %10s %10s %10s %10s %12s%n",
+                "Timer", "Count", "Mean ns", "p50 ns", "p90 ns", "p99 ns", "p99.9 ns", "Max ns"));
+        for (Timer timer : Timers()) {
+            snapshot.append(String.format("%-14s %12d %10.1f %10d %10d %10d %10d %12d%n", timer.Name(), timer.getCount(),
+                    timer.getMeanNanos(), timer.getP50Nanos(), timer.getP90Nanos(), timer.getP99Nanos(),
+                    timer.getP999Nanos(), timer.getMaxNanos()));
+        }
+        snapshot.append(String.format("%-14s %12s%n", "HandRank", "Count"));
+        for (HandRank rank : HAND_RANKS) {
+            snapshot.append(String.format("%-14s %12d%n", rank, RANKS.Count(rank)));
+        }
+        return snapshot.toString();
+    }
+
+    // Plays bot games with metrics on and prints the snapshot - arguments: [games] [players]
+    // Run with -Dpoker.metrics=true
+    public static void main(String[] args) {
+        if (!ENABLED) {
+            System.err.println("Metrics are off - run with -Dpoker.metrics=true");
+            System.exit(2);
+        }
+        long numGames = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        PokerGame game = new PokerGame(new CardDeck(), numPlayers, BotStrategy.INSTANCE);
+        for (long numGame = 0; numGame < numGames; numGame++) {
+            game.Play();
+        }
+        System.out.print(Snapshot());
+    }
+}
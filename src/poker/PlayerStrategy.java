@@ -0,0 +1,11 @@
+package poker;
+
+// Decides which cards a player draws at the Draw stage of a PokerGame
+interface PlayerStrategy {
+    // Strategy that never draws
+    PlayerStrategy STAND_PAT = (playerNumber, hand) -> 0;
+
+    // Returns the cards to discard and replace as a mask - bit n set means card number n+1 is drawn
+    // The hand must not be changed
+    int ChooseDiscards(int playerNumber, Hand hand);
+}
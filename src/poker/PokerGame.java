@@ -0,0 +1,186 @@
+package poker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Headless five card draw engine
+// Runs the Deal, Draw, Score and End stages without any console input or output - draw decisions come
+// from a PlayerStrategy per player and results are returned (and reported to an optional GameListener).
+// The deck and hands are created once and reused by every game played, so a game allocates next to nothing.
+final class PokerGame {
+    // Listener that ignores every event
+    private static final GameListener NO_LISTENER = new GameListener() {};
+
+    // Holds the deck - reset and shuffled at the start of each game
+    private final CardDeck deck;
+
+    // Holds the hands, player 1 first
+    private final List<Hand> hands;
+
+    // Holds the draw strategy of each player, player 1 first
+    private final PlayerStrategy[] strategies;
+
+    // Holds the listener told about each stage
+    private final GameListener listener;
+
+    // Holds the current stage of the game
+    private GameStage gameStage = GameStage.End;
+
+    // Holds the number of games played
+    private long gameNumber = 0;
+
+    // Holds the next player (zero-based) to draw at the Draw stage - the player choosing discards while their
+    // strategy is asked, and the player after them once their cards are drawn
+    private int drawPlayer = 0;
+
+    // Set once every hand is dealt at the Deal stage - the game is then ready to draw
+    private boolean handsDealt = false;
+
+    // Constructor - creates a game for one player per strategy, dealt from the specified deck
+    PokerGame(CardDeck gameDeck, PlayerStrategy[] playerStrategies, GameListener gameListener) {
+        if (playerStrategies.length < 2 || 5 * playerStrategies.length > CardDeck.NUM_CARDS) {
+            throw new IllegalArgumentException("Number of players must be 2-" + CardDeck.NUM_CARDS / 5);
+        }
+        deck = gameDeck;
+        strategies = playerStrategies.clone();
+        listener = gameListener != null ? gameListener : NO_LISTENER;
+        hands = new ArrayList<Hand>(strategies.length);
+        for (int playerHands = 1; playerHands <= strategies.length; playerHands++) {
+            Hand newHand = new Hand();
+            newHand.playerNumber = playerHands;
+            newHand.wildCards = deck.wildCards;
+            hands.add(newHand);
+        }
+    }
+
+    // Constructor - creates a game where every player uses the same strategy
+    PokerGame(CardDeck gameDeck, int numPlayers, PlayerStrategy strategy) {
+        this(gameDeck, Repeat(strategy, numPlayers), null);
+    }
+
+    private static PlayerStrategy[] Repeat(PlayerStrategy strategy, int numPlayers) {
+        PlayerStrategy[] playerStrategies = new PlayerStrategy[numPlayers];
+        Arrays.fill(playerStrategies, strategy);
+        return playerStrategies;
+    }
+
+    // Returns the hands of the last game played, player 1 first
+    List<Hand> Hands() {
+        return hands;
+    }
+
+    // Returns the deck the game is dealt from
+    CardDeck Deck() {
+        return deck;
+    }
+
+    // Returns the current stage of the game
+    GameStage Stage() {
+        return gameStage;
+    }
+
+    // Returns an immutable snapshot of the game (see GameState) - once the hands are dealt (from HandsDealt on),
+    // such as from a strategy or listener while the game is played, to search what-if branches without touching
+    // the game. A snapshot taken from HandsDealt is at the Draw stage, as the game is when its Draw stage starts.
+    // Copies the deck order and hands once - branching from the snapshot then copies no more than the hands
+    GameState Snapshot() {
+        if (gameStage == GameStage.Deal && handsDealt) {
+            return GameState.Of(deck, hands, GameStage.Draw, 0);
+        }
+        return GameState.Of(deck, hands, gameStage, drawPlayer);
+    }
+
+    // Reseeds the deck, then plays a full game - the same seed always deals the same game
+    int Play(long seed) {
+        deck.Reseed(seed);
+        return Play();
+    }
+
+    // Plays a full game and returns the players that share the pot as a mask (bit n set = player n+1)
+    int Play() {
+        int winnerMask = 0;
+        listener.GameStarted(++gameNumber, deck.Seed());
+        gameStage = GameStage.Deal;
+        handsDealt = false;
+        do {
+            listener.StageStarted(gameStage);
+            GameStage stage = gameStage;
+            long startTime = Metrics.Now();
+            switch (gameStage) {
+                case Deal:
+                    Deal();
+                    gameStage = GameStage.Draw;
+                    break;
+                case Draw:
+                    Draw();
+                    gameStage = GameStage.Score;
+                    break;
+                case Score:
+                    winnerMask = Score();
+                    gameStage = GameStage.End;
+                    break;
+            }
+            if (Metrics.ENABLED) {
+                Metrics.STAGES[stage.ordinal()].RecordSince(startTime);
+            }
+        } while (gameStage != GameStage.End);
+        listener.StageStarted(GameStage.End);
+        return winnerMask;
+    }
+
+    // Shuffles a full deck and deals 5 cards to each player, one card per player at a time
+    private void Deal() {
+        drawPlayer = 0;
+        deck.Reset();
+        deck.Shuffle();
+        for (int numPlayer = 0; numPlayer < hands.size(); numPlayer++) {
+            Hand hand = hands.get(numPlayer);
+            hand.Clear();
+            hand.rank = HandRank.Unranked;
+        }
+        for (int numCards = 1; numCards <= 5; numCards++) {
+            for (int numPlayer = 0; numPlayer < hands.size(); numPlayer++) {
+                deck.DealCard(hands.get(numPlayer));
+            }
+        }
+        handsDealt = true;
+        listener.HandsDealt(hands);
+    }
+
+    // Asks each player's strategy which cards to draw and replaces them from the deck
+    // If the deck runs out, the remaining discards are kept
+    private void Draw() {
+        for (int numPlayer = 0; numPlayer < hands.size(); numPlayer++) {
+            Hand hand = hands.get(numPlayer);
+            int discardMask = strategies[numPlayer].ChooseDiscards(hand.playerNumber, hand) & 0x1F;
+            int drawnMask = 0;
+            for (int discards = discardMask; discards != 0 && deck.Remaining() > 0; discards &= discards - 1) {
+                int drawCard = Integer.numberOfTrailingZeros(discards);
+                deck.DrawCard(hand, drawCard + 1);
+                drawnMask |= 1 << drawCard;
+            }
+            drawPlayer = numPlayer + 1;
+            listener.CardsDrawn(hand, drawnMask);
+        }
+    }
+
+    // Ranks every hand and returns the mask of players holding the best hand
+    private int Score() {
+        int bestStrength = -1;
+        int winnerMask = 0;
+        for (int numPlayer = 0; numPlayer < hands.size(); numPlayer++) {
+            Hand hand = hands.get(numPlayer);
+            hand.GetRank();
+            if (hand.strength > bestStrength) {
+                bestStrength = hand.strength;
+                winnerMask = 1 << numPlayer;
+            }
+            else if (hand.strength == bestStrength) {
+                winnerMask |= 1 << numPlayer;
+            }
+        }
+        listener.HandsScored(hands, winnerMask);
+        return winnerMask;
+    }
+}
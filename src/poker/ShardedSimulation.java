@@ -0,0 +1,299 @@
+package poker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Bot-vs-bot simulation split into deterministic seed ranges run by separate worker processes
+// Game n of a run is always played with seed n (see PokerGame.Play(long)), so a run is split into shards of
+// consecutive seeds and any shard played again gives exactly the same tally. The coordinator starts one JVM
+// per shard running this class as a worker; each worker plays its games and streams compact binary tallies
+// back over its standard output every TALLY_GAMES games. The coordinator adds the tallies up as they arrive.
+// Every tally also carries a running checksum of the shard's games (winner masks and strengths, in seed
+// order), so re-running a shard on its own shows whether it reproduced the same games.
+//
+// Usage:
+//   ShardedSimulation [games] [players] [workers] [first seed]   run a simulation across worker processes
+//   ShardedSimulation shard <first seed> <games> <players>        play one shard in this JVM and print its tally
+final class ShardedSimulation {
+    // Number of games played between tallies sent by a worker
+    static final int TALLY_GAMES = 1 << 16;
+
+    // Tally frame types - a worker sends partial tallies then a final one
+    private static final byte PARTIAL = 1;
+    private static final byte FINAL = 2;
+
+    // Cached enum values - values() clones its array on every call
+    private static final HandRank[] RANKS = HandRank.values();
+
+    private ShardedSimulation() {}
+
+    // Counts from a number of games - partial counts add up to the counts of the whole run
+    static final class Tally {
+        // Holds the number of games
+        long games;
+
+        // Holds the number of final hands of each HandRank, indexed by ordinal
+        final long[] rankCounts = new long[RANKS.length];
+
+        // Holds the number of pots won outright by each player, player 1 first
+        final long[] wins;
+
+        // Holds the number of games whose pot was split
+        long splitGames;
+
+        // Holds the running checksum of a shard's games - not added up by Add
+        long checksum;
+
+        Tally(int numPlayers) {
+            wins = new long[numPlayers];
+        }
+
+        // Adds another tally's counts to this one
+        void Add(Tally other) {
+            games += other.games;
+            for (int rank = 0; rank < rankCounts.length; rank++) {
+                rankCounts[rank] += other.rankCounts[rank];
+            }
+            for (int player = 0; player < wins.length; player++) {
+                wins[player] += other.wins[player];
+            }
+            splitGames += other.splitGames;
+        }
+
+        // Returns true if another tally has the same counts and checksum as this one
+        boolean Matches(Tally other) {
+            return games == other.games && Arrays.equals(rankCounts, other.rankCounts) && Arrays.equals(wins, other.wins)
+                    && splitGames == other.splitGames && checksum == other.checksum;
+        }
+
+        // Writes the tally as a frame of the specified type
+        void Write(DataOutputStream output, byte type) throws IOException {
+            output.writeByte(type);
+            output.writeLong(games);
+            for (long count : rankCounts) {
+                output.writeLong(count);
+            }
+            for (long count : wins) {
+                output.writeLong(count);
+            }
+            output.writeLong(splitGames);
+            output.writeLong(checksum);
+        }
+
+        // Reads the body of a frame written by Write (after its type)
+        static Tally Read(DataInputStream input, int numPlayers) throws IOException {
+            Tally tally = new Tally(numPlayers);
+            tally.games = input.readLong();
+            for (int rank = 0; rank < tally.rankCounts.length; rank++) {
+                tally.rankCounts[rank] = input.readLong();
+            }
+            for (int player = 0; player < numPlayers; player++) {
+                tally.wins[player] = input.readLong();
+            }
+            tally.splitGames = input.readLong();
+            tally.checksum = input.readLong();
+            return tally;
+        }
+
+        // Returns a text report of the tally
+        String Report() {
+            StringBuilder report = new StringBuilder();
+            long hands = 0;
+            for (long count : rankCounts) {
+                hands += count;
+            }
+            for (int rank = 0; rank < rankCounts.length; rank++) {
+                report.append(String.format("%-14s %14d  %7.4f%%%n", RANKS[rank], rankCounts[rank], 100.0 * rankCounts[rank] / Math.max(1, hands)));
+            }
+            for (int player = 0; player < wins.length; player++) {
+                report.append(String.format("Player %d wins %14d  %7.4f%%%n", player + 1, wins[player], 100.0 * wins[player] / Math.max(1, games)));
+            }
+            report.append(String.format("Split pots     %14d  %7.4f%%%n", splitGames, 100.0 * splitGames / Math.max(1, games)));
+            report.append(String.format("Games %d, checksum %016x%n", games, checksum));
+            return report.toString();
+        }
+    }
+
+    // Receives the tallies of a shard as they are played
+    interface TallyListener {
+        void TallyPlayed(Tally tally) throws IOException;
+    }
+
+    // Plays the games of one shard - seeds firstSeed to firstSeed + numGames - 1 - passing a partial tally to
+    // the listener every TALLY_GAMES games, and returns the tally of the whole shard
+    static Tally PlayShard(long firstSeed, long numGames, int numPlayers, TallyListener listener) throws IOException {
+        PokerGame game = new PokerGame(new CardDeck(), numPlayers, BotStrategy.INSTANCE);
+        Tally shard = new Tally(numPlayers);
+        Tally partial = new Tally(numPlayers);
+        long checksum = 0;
+        for (long seed = firstSeed; seed < firstSeed + numGames; seed++) {
+            int winnerMask = game.Play(seed);
+            List<Hand> hands = game.Hands();
+            checksum = checksum * 31 + winnerMask;
+            for (int numPlayer = 0; numPlayer < numPlayers; numPlayer++) {
+                Hand hand = hands.get(numPlayer);
+                partial.rankCounts[hand.rank.ordinal()]++;
+                checksum = checksum * 31 + hand.strength;
+            }
+            if (Integer.bitCount(winnerMask) == 1) {
+                partial.wins[Integer.numberOfTrailingZeros(winnerMask)]++;
+            }
+            else {
+                partial.splitGames++;
+            }
+            partial.games++;
+            if (partial.games == TALLY_GAMES || seed == firstSeed + numGames - 1) {
+                // Partial tallies carry the running checksum so far, not a checksum of their own games
+                partial.checksum = checksum;
+                shard.Add(partial);
+                shard.checksum = checksum;
+                if (listener != null) {
+                    listener.TallyPlayed(partial);
+                }
+                partial = new Tally(numPlayers);
+            }
+        }
+        return shard;
+    }
+
+    // Worker - plays a shard and streams its tallies to the output
+    private static void RunWorker(long firstSeed, long numGames, int numPlayers, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        Tally shard = PlayShard(firstSeed, numGames, numPlayers, partial -> {
+            partial.Write(output, PARTIAL);
+            output.flush();
+        });
+        shard.Write(output, FINAL);
+        output.flush();
+    }
+
+    // Reads a worker's tallies until its final one, adding each partial tally to the run as it arrives
+    // Returns the final tally of the shard, which must match the partial tallies added up in every count and
+    // carry the checksum of the last partial tally
+    private static Tally ReadWorker(InputStream inputStream, int numPlayers, Tally run) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        Tally received = new Tally(numPlayers);
+        while (true) {
+            byte type;
+            try {
+                type = input.readByte();
+            }
+            catch (EOFException e) {
+                throw new IOException("Worker ended without a final tally");
+            }
+            Tally tally = Tally.Read(input, numPlayers);
+            if (type == FINAL) {
+                if (!tally.Matches(received)) {
+                    throw new IOException("Worker's final tally of " + tally.games + " games doesn't match the tallies of the "
+                            + received.games + " games streamed");
+                }
+                return tally;
+            }
+            // Partial tallies carry the running checksum, so the last one received is the shard's checksum so far
+            received.Add(tally);
+            received.checksum = tally.checksum;
+            synchronized (run) {
+                run.Add(tally);
+            }
+        }
+    }
+
+    // Runs a simulation across worker processes and returns the merged tally
+    // Shard checksums are combined in shard order, so a run with the same arguments always has the same checksum
+    static Tally Run(long firstSeed, long numGames, int numPlayers, int numWorkers) throws IOException {
+        String javaCommand = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classPath = System.getProperty("java.class.path");
+        ExecutorService executor = VirtualThreads.NewPerTaskExecutor();
+        Tally run = new Tally(numPlayers);
+        List<Process> workers = new ArrayList<Process>();
+        List<Future<Tally>> shards = new ArrayList<Future<Tally>>();
+        try {
+            for (int worker = 0; worker < numWorkers; worker++) {
+                long shardFirst = firstSeed + numGames * worker / numWorkers;
+                long shardGames = firstSeed + numGames * (worker + 1) / numWorkers - shardFirst;
+                ProcessBuilder builder = new ProcessBuilder(javaCommand, "-cp", classPath, ShardedSimulation.class.getName(),
+                        "worker", Long.toString(shardFirst), Long.toString(shardGames), Integer.toString(numPlayers));
+                builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+                Process process = builder.start();
+                process.getOutputStream().close();
+                workers.add(process);
+                shards.add(executor.submit(() -> {
+                    try (InputStream input = process.getInputStream()) {
+                        Tally shard = ReadWorker(input, numPlayers, run);
+                        if (process.waitFor() != 0) {
+                            throw new IOException("Worker exited with status " + process.exitValue());
+                        }
+                        return shard;
+                    }
+                }));
+            }
+
+            Tally merged = new Tally(numPlayers);
+            for (int worker = 0; worker < numWorkers; worker++) {
+                Tally shard = shards.get(worker).get();
+                long shardFirst = firstSeed + numGames * worker / numWorkers;
+                System.out.println(String.format("Shard %d: seeds %d-%d, %d games, checksum %016x",
+                        worker + 1, shardFirst, shardFirst + shard.games - 1, shard.games, shard.checksum));
+                merged.Add(shard);
+                merged.checksum = merged.checksum * 31 + shard.checksum;
+            }
+            if (merged.games != run.games) {
+                throw new IOException("Streamed tallies hold " + run.games + " games, shards hold " + merged.games);
+            }
+            return merged;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for workers", e);
+        }
+        catch (ExecutionException e) {
+            throw new IOException("Worker failed", e.getCause());
+        }
+        finally {
+            for (Process process : workers) {
+                process.destroy();
+            }
+            executor.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("worker")) {
+            RunWorker(Long.parseLong(args[1]), Long.parseLong(args[2]), Integer.parseInt(args[3]), System.out);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("shard")) {
+            long startTime = System.nanoTime();
+            Tally shard = PlayShard(Long.parseLong(args[1]), Long.parseLong(args[2]), Integer.parseInt(args[3]), null);
+            System.out.print(shard.Report());
+            System.out.println(String.format("%d ms", (System.nanoTime() - startTime) / 1000000));
+            return;
+        }
+
+        long numGames = args.length > 0 ? Long.parseLong(args[0]) : 10000000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int numWorkers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long firstSeed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+        if (numPlayers < 2 || 5 * numPlayers > CardDeck.NUM_CARDS) {
+            throw new IllegalArgumentException("Number of players must be 2-" + CardDeck.NUM_CARDS / 5);
+        }
+        long startTime = System.nanoTime();
+        Tally run = Run(firstSeed, numGames, numPlayers, numWorkers);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.print(run.Report());
+        System.out.println(String.format("%d workers, %.1f s, %.0f games per second", numWorkers, elapsedSeconds, run.games / elapsedSeconds));
+    }
+}
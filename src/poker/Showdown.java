@@ -0,0 +1,245 @@
+package poker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Bulk showdown resolution
+// A hand's key packs its strength (rank plus every tiebreak face, see HandEvaluator) into the high
+// 32 bits and its inverted seat into the low 32 bits, so comparing two keys compares the hands and,
+// for equal hands, puts the lower seat first - the same order OrderHands has always used. Winners
+// are found with a single linear max scan of strengths, and every seat holding the maximum splits the pot.
+final class Showdown {
+    // Maximum number of seats at a table - winners are returned as a bitmask of seats
+    static final int MAX_SEATS = 32;
+
+    private Showdown() {}
+
+    // Returns the packed key of a strength and seat
+    static long Key(int strength, int seat) {
+        return ((long) strength << 32) | (~seat & 0xFFFFFFFFL);
+    }
+
+    // Returns the packed key of a ranked hand (GetRank must already have been called), seated by player number
+    static long Key(Hand hand) {
+        return Key(hand.strength, hand.playerNumber);
+    }
+
+    // Returns the strength held in a packed key
+    static int Strength(long key) {
+        return (int) (key >>> 32);
+    }
+
+    // Returns the seat held in a packed key
+    static int Seat(long key) {
+        return ~(int) key;
+    }
+
+    // Returns the packed keys of ranked hands
+    static long[] Keys(List<Hand> hands) {
+        long[] keys = new long[hands.size()];
+        for (int numHand = 0; numHand < keys.length; numHand++) {
+            keys[numHand] = Key(hands.get(numHand));
+        }
+        return keys;
+    }
+
+    // Sorts keys best hand first with a primitive sort
+    static void SortDescending(long[] keys) {
+        Arrays.sort(keys);
+        for (int low = 0, high = keys.length - 1; low < high; low++, high--) {
+            long key = keys[low];
+            keys[low] = keys[high];
+            keys[high] = key;
+        }
+    }
+
+    // Returns the player numbers of the ranked hands that share the best strength, lowest first
+    static int[] Winners(List<Hand> hands) {
+        int bestStrength = -1;
+        int numWinners = 0;
+        for (int numHand = 0; numHand < hands.size(); numHand++) {
+            int strength = hands.get(numHand).strength;
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                numWinners = 1;
+            }
+            else if (strength == bestStrength) {
+                numWinners++;
+            }
+        }
+        long[] winnerKeys = new long[numWinners];
+        numWinners = 0;
+        for (int numHand = 0; numHand < hands.size(); numHand++) {
+            if (hands.get(numHand).strength == bestStrength) {
+                winnerKeys[numWinners++] = Key(hands.get(numHand));
+            }
+        }
+        SortDescending(winnerKeys);
+        int[] winners = new int[numWinners];
+        for (int numWinner = 0; numWinner < numWinners; numWinner++) {
+            winners[numWinner] = Seat(winnerKeys[numWinner]);
+        }
+        return winners;
+    }
+
+    // Returns the winning seats of one table as a bitmask (bit n set means seat n shares the pot)
+    // strengths holds numSeats strengths starting at offset, one per seat
+    static int WinnerMask(int[] strengths, int offset, int numSeats) {
+        int bestStrength = -1;
+        int winnerMask = 0;
+        for (int seat = 0; seat < numSeats; seat++) {
+            int strength = strengths[offset + seat];
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                winnerMask = 1 << seat;
+            }
+            else if (strength == bestStrength) {
+                winnerMask |= 1 << seat;
+            }
+        }
+        return winnerMask;
+    }
+
+    // Ranks many tables of hands and returns the winner mask of each table
+    // handCards holds 5 card indices per hand, seatsPerTable hands per table, tables one after another
+    // Tables are independent, so they are resolved in parallel with each writing only its own slot
+    // Only the 52 standard cards can be resolved here - hands with wild cards are ranked with WildCards
+    static int[] ResolveTables(int[] handCards, int seatsPerTable) {
+        if (seatsPerTable < 1 || seatsPerTable > MAX_SEATS) {
+            throw new IllegalArgumentException("Seats per table must be 1-" + MAX_SEATS);
+        }
+        int cardsPerTable = seatsPerTable * 5;
+        if (handCards.length % cardsPerTable != 0) {
+            throw new IllegalArgumentException("Card count is not a whole number of tables");
+        }
+        for (int card : handCards) {
+            if (card < 0 || card >= CardDeck.NUM_CARDS) {
+                throw new IllegalArgumentException("Tables can only hold the 52 standard cards, found card index " + card);
+            }
+        }
+        int[] winnerMasks = new int[handCards.length / cardsPerTable];
+        IntStream.range(0, winnerMasks.length).parallel().forEach(table -> {
+            int bestStrength = -1;
+            int winnerMask = 0;
+            for (int seat = 0, card = table * cardsPerTable; seat < seatsPerTable; seat++, card += 5) {
+                int strength = HandEvaluator.Evaluate(handCards[card], handCards[card + 1], handCards[card + 2],
+                        handCards[card + 3], handCards[card + 4]);
+                if (strength > bestStrength) {
+                    bestStrength = strength;
+                    winnerMask = 1 << seat;
+                }
+                else if (strength == bestStrength) {
+                    winnerMask |= 1 << seat;
+                }
+            }
+            winnerMasks[table] = winnerMask;
+        });
+        return winnerMasks;
+    }
+
+    // Splits each table's pot between its winners and adds the shares to payouts (seatsPerTable per table)
+    // Chips that don't divide evenly go one each to the lowest winning seats
+    static void SettlePots(long[] pots, int[] winnerMasks, int seatsPerTable, long[] payouts) {
+        for (int table = 0; table < pots.length; table++) {
+            Split(pots[table], winnerMasks[table], table * seatsPerTable, payouts);
+        }
+    }
+
+    // Returns the high and low winners of one hi-lo table as seat masks - high winners in the low 32 bits,
+    // low winners in the high 32 bits (see HighWinners and LowWinners)
+    // keys holds HiLoEvaluator.NUM_KEYS keys per seat from offset. lowKey picks the low ranking
+    // (HiLoEvaluator.ACE_TO_FIVE or DEUCE_TO_SEVEN) and only lows keyed at least lowQualifier can win - 0 lets
+    // any low win, HiLoEvaluator.EIGHT_OR_BETTER plays eight-or-better. If no low qualifies there are no low winners.
+    static long HiLoWinnerMasks(int[] keys, int offset, int numSeats, int lowKey, int lowQualifier) {
+        int bestHigh = -1;
+        int highMask = 0;
+        int bestLow = lowQualifier - 1;
+        int lowMask = 0;
+        for (int seat = 0, key = offset; seat < numSeats; seat++, key += HiLoEvaluator.NUM_KEYS) {
+            int high = keys[key + HiLoEvaluator.HIGH];
+            if (high > bestHigh) {
+                bestHigh = high;
+                highMask = 1 << seat;
+            }
+            else if (high == bestHigh) {
+                highMask |= 1 << seat;
+            }
+            int low = keys[key + lowKey];
+            if (low > bestLow) {
+                bestLow = low;
+                lowMask = 1 << seat;
+            }
+            else if (low == bestLow) {
+                lowMask |= 1 << seat;
+            }
+        }
+        return ((long) lowMask << 32) | (highMask & 0xFFFFFFFFL);
+    }
+
+    // Returns the high winners held in hi-lo winner masks
+    static int HighWinners(long hiLoMasks) {
+        return (int) hiLoMasks;
+    }
+
+    // Returns the low winners held in hi-lo winner masks (0 if no low qualified)
+    static int LowWinners(long hiLoMasks) {
+        return (int) (hiLoMasks >>> 32);
+    }
+
+    // Ranks many tables of hands high and low, and returns the hi-lo winner masks of each table
+    // handCards holds 5 card indices per hand, seatsPerTable hands per table, tables one after another
+    // Each hand is evaluated once for all its keys (see HiLoEvaluator). Lowball games use the low winners alone.
+    static long[] ResolveHiLoTables(int[] handCards, int seatsPerTable, int lowKey, int lowQualifier) {
+        if (seatsPerTable < 1 || seatsPerTable > MAX_SEATS) {
+            throw new IllegalArgumentException("Seats per table must be 1-" + MAX_SEATS);
+        }
+        if (lowKey != HiLoEvaluator.ACE_TO_FIVE && lowKey != HiLoEvaluator.DEUCE_TO_SEVEN) {
+            throw new IllegalArgumentException("Low key must be HiLoEvaluator.ACE_TO_FIVE or DEUCE_TO_SEVEN");
+        }
+        int cardsPerTable = seatsPerTable * 5;
+        if (handCards.length % cardsPerTable != 0) {
+            throw new IllegalArgumentException("Card count is not a whole number of tables");
+        }
+        long[] hiLoMasks = new long[handCards.length / cardsPerTable];
+        // Keys of every hand - each table writes only its own hands' keys
+        int[] keys = new int[handCards.length / 5 * HiLoEvaluator.NUM_KEYS];
+        IntStream.range(0, hiLoMasks.length).parallel().forEach(table -> {
+            int firstKey = table * seatsPerTable * HiLoEvaluator.NUM_KEYS;
+            for (int seat = 0, card = table * cardsPerTable; seat < seatsPerTable; seat++, card += 5) {
+                long cardMask = CardSet.Bit(handCards[card]) | CardSet.Bit(handCards[card + 1]) | CardSet.Bit(handCards[card + 2])
+                        | CardSet.Bit(handCards[card + 3]) | CardSet.Bit(handCards[card + 4]);
+                HiLoEvaluator.Evaluate(cardMask, keys, firstKey + seat * HiLoEvaluator.NUM_KEYS);
+            }
+            hiLoMasks[table] = HiLoWinnerMasks(keys, firstKey, seatsPerTable, lowKey, lowQualifier);
+        });
+        return hiLoMasks;
+    }
+
+    // Splits each hi-lo table's pot and adds the shares to payouts (seatsPerTable per table)
+    // The high hands split half the pot and the low hands the other half - the odd chip of an odd pot goes to the
+    // high half, and a seat winning both halves scoops both. With no qualifying low the high hands take it all.
+    // Within each half, chips that don't divide evenly go one each to the lowest winning seats.
+    static void SettleHiLoPots(long[] pots, long[] hiLoMasks, int seatsPerTable, long[] payouts) {
+        for (int table = 0; table < pots.length; table++) {
+            int lowMask = LowWinners(hiLoMasks[table]);
+            long lowHalf = lowMask != 0 ? pots[table] / 2 : 0;
+            Split(pots[table] - lowHalf, HighWinners(hiLoMasks[table]), table * seatsPerTable, payouts);
+            if (lowMask != 0) {
+                Split(lowHalf, lowMask, table * seatsPerTable, payouts);
+            }
+        }
+    }
+
+    // Splits an amount between the winning seats and adds the shares to payouts from firstPayout
+    // Chips that don't divide evenly go one each to the lowest winning seats
+    private static void Split(long amount, int winnerMask, int firstPayout, long[] payouts) {
+        int numWinners = Integer.bitCount(winnerMask);
+        long share = amount / numWinners;
+        long oddChips = amount % numWinners;
+        for (int winners = winnerMask; winners != 0; winners &= winners - 1) {
+            int seat = Integer.numberOfTrailingZeros(winners);
+            payouts[firstPayout + seat] += share + (oddChips-- > 0 ? 1 : 0);
+        }
+    }
+}
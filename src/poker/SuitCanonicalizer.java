@@ -0,0 +1,62 @@
+package poker;
+
+// Reduces a set of cards to a canonical suit-isomorphic form
+// Suits have no value in poker, so hands that only differ by renaming suits (for example the same
+// faces in Clubs and Hearts swapped) rank the same and have the same odds. Each suit's cards are
+// held as a face mask, the suits are ordered by descending face mask and renamed in that order, so
+// every hand in an isomorphism class gets the same canonical cards and the same canonical key.
+final class SuitCanonicalizer {
+    private SuitCanonicalizer() {}
+
+    // Returns the canonical key of the specified card indices (in any order) and fills canonicalCards
+    // (if not null) with the canonical card index of each card, position for position
+    // The key packs the four face masks, highest first, 13 bits each - jokers have no suit, so they can't be canonicalized
+    static long Canonicalize(int[] cards, int[] canonicalCards) {
+        int[] suitMasks = new int[HandEvaluator.NUM_SUITS];
+        for (int card : cards) {
+            if (card < 0 || card >= CardDeck.NUM_CARDS) {
+                throw new IllegalArgumentException("Only the 52 standard cards can be canonicalized, found card index " + card);
+            }
+            suitMasks[HandEvaluator.Suit(card)] |= 1 << HandEvaluator.Face(card);
+        }
+
+        // Order the suits by descending face mask - insertion sort of 4 entries
+        int[] suitOrder = { 0, 1, 2, 3 };
+        for (int i = 1; i < HandEvaluator.NUM_SUITS; i++) {
+            int suit = suitOrder[i];
+            int j = i - 1;
+            while (j >= 0 && suitMasks[suitOrder[j]] < suitMasks[suit]) {
+                suitOrder[j + 1] = suitOrder[j];
+                j--;
+            }
+            suitOrder[j + 1] = suit;
+        }
+
+        long key = 0;
+        int[] canonicalSuit = new int[HandEvaluator.NUM_SUITS];
+        for (int i = 0; i < HandEvaluator.NUM_SUITS; i++) {
+            canonicalSuit[suitOrder[i]] = i;
+            key = (key << HandEvaluator.NUM_FACES) | suitMasks[suitOrder[i]];
+        }
+        if (canonicalCards != null) {
+            for (int numCard = 0; numCard < cards.length; numCard++) {
+                int card = cards[numCard];
+                canonicalCards[numCard] = canonicalSuit[HandEvaluator.Suit(card)] * HandEvaluator.NUM_FACES + HandEvaluator.Face(card);
+            }
+        }
+        return key;
+    }
+
+    // Returns the card indices held in a canonical key, in ascending order
+    static int[] Cards(long key) {
+        int[] cards = new int[Long.bitCount(key)];
+        int numCard = 0;
+        for (int i = 0; i < HandEvaluator.NUM_SUITS; i++) {
+            int suitMask = (int) (key >>> ((HandEvaluator.NUM_SUITS - 1 - i) * HandEvaluator.NUM_FACES)) & ((1 << HandEvaluator.NUM_FACES) - 1);
+            for (; suitMask != 0; suitMask &= suitMask - 1) {
+                cards[numCard++] = i * HandEvaluator.NUM_FACES + Integer.numberOfTrailingZeros(suitMask);
+            }
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,37 @@
+package poker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Creates executors that run each task on its own virtual thread when the JVM has them (Java 21+)
+// The lookup is reflective so the code still builds for Java 17 - older JVMs fall back to a cached
+// pool of platform threads, which behaves the same but costs far more per blocked thread
+final class VirtualThreads {
+    private VirtualThreads() {}
+
+    // Returns true if virtual threads are available on this JVM
+    static boolean Available() {
+        ExecutorService executor = NewVirtualExecutor();
+        if (executor == null) {
+            return false;
+        }
+        executor.shutdown();
+        return true;
+    }
+
+    // Returns an executor that starts a new thread (virtual when available) for every task
+    static ExecutorService NewPerTaskExecutor() {
+        ExecutorService executor = NewVirtualExecutor();
+        return executor != null ? executor : Executors.newCachedThreadPool();
+    }
+
+    // Returns Executors.newVirtualThreadPerTaskExecutor(), or null if this JVM can't provide it
+    private static ExecutorService NewVirtualExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null; // Missing (before Java 19) or a preview feature that isn't enabled (Java 19-20)
+        }
+    }
+}
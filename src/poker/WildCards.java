@@ -0,0 +1,106 @@
+package poker;
+
+// The wild cards of a game - a number of jokers (see CardDeck.JOKER) and any faces played wild, such as
+// Deuces wild. A wild card stands for whichever card makes the best hand (see WildEvaluator).
+// Immutable - a deck shares one instance with its hands and game states. Jokers are wild in every game,
+// so even NONE ranks a hand holding a joker.
+final class WildCards {
+    // Standard deck - no jokers and no wild faces
+    static final WildCards NONE = new WildCards(0, 0);
+
+    // Holds the number of jokers in the deck
+    private final int numJokers;
+
+    // Holds the wild faces as a face mask (bit n = CardFace ordinal n)
+    private final int wildFaces;
+
+    // Holds every wild card as a CardSet mask - the jokers and all four suits of each wild face
+    private final long mask;
+
+    private WildCards(int jokers, int faceMask) {
+        numJokers = jokers;
+        wildFaces = faceMask;
+        long cardMask = CardSet.JOKER_MASK;
+        for (int suit = 0; suit < HandEvaluator.NUM_SUITS; suit++) {
+            cardMask |= (long) faceMask << (suit * HandEvaluator.NUM_FACES);
+        }
+        mask = cardMask;
+    }
+
+    // Returns the wild cards of a deck with the specified number of jokers and wild faces
+    static WildCards Of(int numJokers, CardFace... faces) {
+        if (numJokers < 0 || numJokers > CardDeck.MAX_JOKERS) {
+            throw new IllegalArgumentException("Number of jokers must be 0-" + CardDeck.MAX_JOKERS);
+        }
+        int faceMask = 0;
+        for (CardFace face : faces) {
+            faceMask |= 1 << face.ordinal();
+        }
+        return numJokers == 0 && faceMask == 0 ? NONE : new WildCards(numJokers, faceMask);
+    }
+
+    // Returns the wild cards held in a code from Code
+    static WildCards OfCode(int code) {
+        int numJokers = code >>> HandEvaluator.NUM_FACES;
+        int faceMask = code & ((1 << HandEvaluator.NUM_FACES) - 1);
+        if (numJokers > CardDeck.MAX_JOKERS) {
+            throw new IllegalArgumentException("Not a wild cards code: " + code);
+        }
+        return numJokers == 0 && faceMask == 0 ? NONE : new WildCards(numJokers, faceMask);
+    }
+
+    // Returns the wild cards as one int - the wild face mask with the number of jokers above it (0 for NONE),
+    // for storing with recorded games
+    int Code() {
+        return (numJokers << HandEvaluator.NUM_FACES) | wildFaces;
+    }
+
+    // Returns the number of jokers in the deck
+    int NumJokers() {
+        return numJokers;
+    }
+
+    // Returns the wild faces as a face mask
+    int WildFaces() {
+        return wildFaces;
+    }
+
+    // Returns every wild card as a CardSet mask
+    long Mask() {
+        return mask;
+    }
+
+    // Returns true if the card (by card index) is wild
+    boolean IsWild(int cardIndex) {
+        return (mask & CardSet.Bit(cardIndex)) != 0;
+    }
+
+    // Returns the packed strength of a five card hand given as a CardSet mask, with its wild cards
+    // standing for the cards that make the best hand
+    int Evaluate(long cardMask) {
+        long wild = cardMask & mask;
+        if (wild == 0) {
+            return HandEvaluator.Evaluate(cardMask);
+        }
+        return WildEvaluator.Evaluate(cardMask & ~wild, Long.bitCount(wild));
+    }
+
+    // Returns a description such as "1 joker, Twos wild" or "no wild cards"
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        if (numJokers > 0) {
+            description.append(numJokers).append(numJokers == 1 ? " joker" : " jokers");
+        }
+        if (wildFaces != 0) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            for (int faces = wildFaces; faces != 0; faces &= faces - 1) {
+                description.append(CardFace.values()[Integer.numberOfTrailingZeros(faces)]).append('s')
+                        .append((faces & (faces - 1)) != 0 ? " and " : " wild");
+            }
+        }
+        return description.length() > 0 ? description.toString() : "no wild cards";
+    }
+}
@@ -0,0 +1,175 @@
+package poker;
+
+import java.util.Arrays;
+
+// Five card evaluator for hands holding wild cards - finds the best hand the wild cards can make without
+// trying substitutions (52 per wild card)
+// A wild card can stand for any card, even one already in the hand, so the best hand only depends on how
+// many wild cards there are and on the natural cards. The natural cards' suit masks give the faces held
+// once, twice and three times as bit-sliced counts (as in BestHandEvaluator), and a precomputed table gives
+// the best straight whose five faces hold every natural face. From those, each rank from FiveOfAKind down is
+// a single test, and the first one the wild cards can make is the best hand. The result is a packed
+// strength like HandEvaluator's, so hands with and without wild cards compare directly.
+//
+// Usage: WildEvaluator [jokers] [wild faces...]   ranks every five card hand of the deck, for example "1" or "0 Two"
+final class WildEvaluator {
+    // Number of five card hands of each HandRank (indexed by ordinal) dealt from a deck with one joker, and
+    // from a standard deck with Twos wild - both counted by trying every substitution of the wild cards
+    static final long[] ONE_JOKER_FREQUENCIES = { 0, 1302540, 1268088, 123552, 137280, 20532, 7804, 6552, 3120, 180, 24, 13 };
+    static final long[] DEUCES_WILD_FREQUENCIES = { 0, 799680, 1225008, 95040, 355080, 62232, 14472, 12672, 31552, 2068, 484, 672 };
+
+    // Face mask of an Ace-low straight (Ace, Two, Three, Four, Five)
+    private static final int WHEEL_MASK = 0x100F;
+
+    // High face of the best straight whose five faces include every face of a face mask, by face mask
+    // (-1 if there is none)
+    private static final byte[] STRAIGHT_HIGH = StraightHighs();
+
+    private WildEvaluator() {}
+
+    private static byte[] StraightHighs() {
+        byte[] straightHigh = new byte[1 << HandEvaluator.NUM_FACES];
+        Arrays.fill(straightHigh, (byte) -1);
+        for (int faceMask = 0; faceMask < straightHigh.length; faceMask++) {
+            for (int highFace = CardFace.Ace.ordinal(); highFace >= CardFace.Five.ordinal(); highFace--) {
+                int straight = highFace == CardFace.Five.ordinal() ? WHEEL_MASK : 0x1F << (highFace - 4);
+                if ((faceMask & ~straight) == 0) {
+                    straightHigh[faceMask] = (byte) highFace;
+                    break;
+                }
+            }
+        }
+        return straightHigh;
+    }
+
+    // Returns the packed strength of the best five card hand made by the natural cards (a CardSet mask of
+    // the 52 standard cards) and a number of wild cards - five cards in all
+    static int Evaluate(long naturalMask, int numWild) {
+        int numNatural = Long.bitCount(naturalMask);
+        if (numNatural + numWild != 5) {
+            throw new IllegalArgumentException("Hand must hold 5 cards to be ranked, found " + (numNatural + numWild));
+        }
+        if ((naturalMask & ~CardSet.FULL_MASK) != 0) {
+            throw new IllegalArgumentException("Jokers are always wild - they can't be natural cards");
+        }
+        if (numWild == 0) {
+            return HandEvaluator.Evaluate(naturalMask);
+        }
+        int s0 = CardSet.SuitMask(naturalMask, 0);
+        int s1 = CardSet.SuitMask(naturalMask, 1);
+        int s2 = CardSet.SuitMask(naturalMask, 2);
+        int s3 = CardSet.SuitMask(naturalMask, 3);
+        int faceMask = s0 | s1 | s2 | s3;
+        int numFaces = Integer.bitCount(faceMask);
+
+        // Every natural card of one face (or none at all) - the wild cards make five of that face
+        if (numFaces <= 1) {
+            int face = numFaces == 0 ? CardFace.Ace.ordinal() : BestHandEvaluator.HighestFace(faceMask);
+            return HandEvaluator.Pack(HandRank.FiveOfAKind, face, 1);
+        }
+
+        // Faces held at least twice and three times - at most four natural cards, so never four times here
+        int countBit0 = s0 ^ s1 ^ s2 ^ s3;
+        int countBit1 = (s0 & s1) | (s2 & s3) | ((s0 ^ s1) & (s2 ^ s3));
+        int trips = countBit0 & countBit1;
+        int pairsOrBetter = countBit1;
+
+        // Natural cards of distinct faces fit a straight if the table finds one, and a flush if they share a suit
+        boolean distinct = numFaces == numNatural;
+        int straightHigh = distinct ? STRAIGHT_HIGH[faceMask] : -1;
+        boolean oneSuit = distinct && (faceMask == s0 || faceMask == s1 || faceMask == s2 || faceMask == s3);
+        if (oneSuit && straightHigh >= 0) {
+            HandRank rank = straightHigh == CardFace.Ace.ordinal() ? HandRank.RoyalFlush : HandRank.StraightFlush;
+            return HandEvaluator.Pack(rank, straightHigh, 1);
+        }
+
+        // Each rank below needs a face held at least (group size - wild cards) times - the highest such face
+        int quadFaces = FacesHeld(4 - numWild, faceMask, pairsOrBetter, trips);
+        if (quadFaces != 0) {
+            int quadFace = BestHandEvaluator.HighestFace(quadFaces);
+            return HandEvaluator.Pack(HandRank.FourOfAKind, (quadFace << 4) | BestHandEvaluator.HighestFace(faceMask & ~(1 << quadFace)), 2);
+        }
+        // Two faces and no four of a kind - two natural pairs and one wild card, the higher pair made three
+        if (numFaces == 2) {
+            int highFace = BestHandEvaluator.HighestFace(faceMask);
+            return HandEvaluator.Pack(HandRank.FullHouse, (highFace << 4) | Integer.numberOfTrailingZeros(faceMask), 2);
+        }
+        if (oneSuit) {
+            // Wild cards take the highest faces missing from the flush
+            return HandEvaluator.Pack(HandRank.Flush, HandEvaluator.Descending(faceMask | BestHandEvaluator.Highest(~faceMask & 0x1FFF, numWild)), 5);
+        }
+        if (straightHigh >= 0) {
+            return HandEvaluator.Pack(HandRank.Straight, straightHigh, 1);
+        }
+        int tripFaces = FacesHeld(3 - numWild, faceMask, pairsOrBetter, trips);
+        if (tripFaces != 0) {
+            int tripFace = BestHandEvaluator.HighestFace(tripFaces);
+            return HandEvaluator.Pack(HandRank.ThreeOfAKind,
+                    (tripFace << 8) | HandEvaluator.Descending(BestHandEvaluator.Highest(faceMask & ~(1 << tripFace), 2)), 3);
+        }
+        // One wild card and four natural faces - it pairs the highest
+        int pairFace = BestHandEvaluator.HighestFace(faceMask);
+        return HandEvaluator.Pack(HandRank.Pair, (pairFace << 12) | HandEvaluator.Descending(faceMask & ~(1 << pairFace)), 4);
+    }
+
+    // Returns the mask of the faces held at least minCount times
+    private static int FacesHeld(int minCount, int faceMask, int pairsOrBetter, int trips) {
+        return minCount <= 1 ? faceMask : minCount == 2 ? pairsOrBetter : trips;
+    }
+
+    // Counts every five card hand of a deck with the specified wild cards by HandRank ordinal
+    static long[] CountRanks(WildCards wildCards) {
+        int[] cards = new CardDeck(0, wildCards).Order();
+        long[] counts = new long[HandRank.values().length];
+        for (int c4 = 4; c4 < cards.length; c4++) {
+            for (int c3 = 3; c3 < c4; c3++) {
+                for (int c2 = 2; c2 < c3; c2++) {
+                    for (int c1 = 1; c1 < c2; c1++) {
+                        long mask = CardSet.Bit(cards[c1]) | CardSet.Bit(cards[c2]) | CardSet.Bit(cards[c3]) | CardSet.Bit(cards[c4]);
+                        for (int c0 = 0; c0 < c1; c0++) {
+                            counts[wildCards.Evaluate(mask | CardSet.Bit(cards[c0])) >>> HandEvaluator.RANK_SHIFT]++;
+                        }
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    public static void main(String[] args) {
+        int numJokers = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        CardFace[] wildFaces = new CardFace[Math.max(0, args.length - 1)];
+        for (int numFace = 0; numFace < wildFaces.length; numFace++) {
+            wildFaces[numFace] = CardFace.valueOf(args[numFace + 1]);
+        }
+        WildCards wildCards = WildCards.Of(numJokers, wildFaces);
+        long[] expected = numJokers == 1 && wildCards.WildFaces() == 0 ? ONE_JOKER_FREQUENCIES
+                : numJokers == 0 && wildCards.WildFaces() == 1 << CardFace.Two.ordinal() ? DEUCES_WILD_FREQUENCIES
+                : numJokers == 0 && wildCards.WildFaces() == 0 ? HandEvaluator.FIVE_CARD_FREQUENCIES : null;
+
+        // Once to warm up, once timed
+        CountRanks(wildCards);
+        long startTime = System.nanoTime();
+        long[] counts = CountRanks(wildCards);
+        long elapsed = System.nanoTime() - startTime;
+
+        System.out.println("Deck with " + wildCards);
+        long total = 0;
+        HandRank[] ranks = HandRank.values();
+        boolean matches = true;
+        for (int rank = 0; rank < counts.length; rank++) {
+            total += counts[rank];
+            String check = "";
+            if (expected != null) {
+                check = counts[rank] == expected[rank] ? "ok" : "EXPECTED " + expected[rank];
+                matches &= counts[rank] == expected[rank];
+            }
+            System.out.println(String.format("%-14s %9d  %s", ranks[rank], counts[rank], check));
+        }
+        System.out.println(String.format("Total %d hands in %d ms (%.1f ns per hand)", total, elapsed / 1000000, (double) elapsed / total));
+        if (!matches) {
+            System.out.println("Hand rank frequencies do not match");
+            System.exit(1);
+        }
+    }
+}